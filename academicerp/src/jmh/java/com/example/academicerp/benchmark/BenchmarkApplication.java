@@ -0,0 +1,53 @@
+package com.example.academicerp.benchmark;
+
+import com.example.academicerp.config.JpaBatchingConfig;
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.repository.OrganisationChangeRepository;
+import com.example.academicerp.organisation.repository.OrganisationRepository;
+import com.example.academicerp.organisation.service.OrganisationImportService;
+import com.example.academicerp.organisation.service.OrganisationSearchService;
+import com.example.academicerp.organisation.service.OrganisationService;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Minimal context for the benchmarks: the organisation services and repositories on an
+ * embedded H2 database, without security or caching, so every call reaches the database. There
+ * is no web server unless a benchmark switches one on.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {SecurityAutoConfiguration.class, OAuth2ClientAutoConfiguration.class,
+        ManagementWebSecurityAutoConfiguration.class})
+@EntityScan(basePackageClasses = Organisation.class)
+@EnableJpaRepositories(basePackageClasses = OrganisationRepository.class)
+@Import({OrganisationService.class, OrganisationImportService.class, OrganisationSearchService.class,
+        OrganisationChangeRepository.class, JpaBatchingConfig.class})
+public class BenchmarkApplication {
+
+    static ConfigurableApplicationContext start() {
+        return builder().run();
+    }
+
+    /** The benchmark defaults; callers may add sources and properties or switch on the web server. */
+    static SpringApplicationBuilder builder() {
+        return new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "spring.flyway.locations=classpath:db/migration/{vendor}",
+                        "spring.jpa.hibernate.ddl-auto=validate",
+                        "spring.jpa.open-in-view=false",
+                        "organisation.changes.settle-time=PT2S");
+    }
+}
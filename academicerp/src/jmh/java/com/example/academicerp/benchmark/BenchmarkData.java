@@ -0,0 +1,45 @@
+package com.example.academicerp.benchmark;
+
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.entity.OrganisationHr;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Deterministic organisation graphs of a given shape for the benchmarks. */
+final class BenchmarkData {
+
+    static final String[] CITIES = {"Pune", "Mumbai", "Bengaluru", "Delhi", "Chennai", "Hyderabad", "Kolkata"};
+    static final String[] INDUSTRIES = {"Technology", "Finance", "Pharma", "Logistics", "Retail"};
+
+    private BenchmarkData() {
+    }
+
+    static Organisation organisation(int index, int contacts) {
+        Organisation org = new Organisation("Organisation " + index, index + " Industrial Estate, Phase " + (index % 4 + 1));
+        org.setCity(CITIES[index % CITIES.length]);
+        org.setState("Maharashtra");
+        org.setCountry("India");
+        org.setPincode(String.valueOf(411000 + index % 1000));
+        org.setWebsite("https://organisation" + index + ".example.com");
+        org.setIndustryType(INDUSTRIES[index % INDUSTRIES.length]);
+        org.setCreatedAt(LocalDateTime.of(2024, 1, 1, 9, 0));
+        org.setUpdatedAt(LocalDateTime.of(2024, 6, 1, 9, 0));
+        for (int i = 0; i < contacts; i++) {
+            OrganisationHr hr = new OrganisationHr("First" + i, "Last" + i,
+                    "hr" + i + "@organisation" + index + ".example.com", "98765432" + String.format("%02d", i % 100));
+            hr.setDesignation(i == 0 ? "HR Manager" : "Talent Partner");
+            org.addHrContact(hr);
+        }
+        return org;
+    }
+
+    static List<Organisation> organisations(int from, int count, int contacts) {
+        List<Organisation> organisations = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) {
+            organisations.add(organisation(i, contacts));
+        }
+        return organisations;
+    }
+}
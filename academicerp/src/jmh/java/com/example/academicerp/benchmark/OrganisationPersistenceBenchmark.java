@@ -0,0 +1,127 @@
+package com.example.academicerp.benchmark;
+
+import com.example.academicerp.organisation.dto.ImportReport;
+import com.example.academicerp.organisation.dto.ImportRowResult;
+import com.example.academicerp.organisation.dto.OrganisationFieldSet;
+import com.example.academicerp.organisation.dto.OrganisationFilter;
+import com.example.academicerp.organisation.dto.OrganisationSearchHit;
+import com.example.academicerp.organisation.dto.OrganisationSummary;
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.service.OrganisationImportService;
+import com.example.academicerp.organisation.service.OrganisationSearchService;
+import com.example.academicerp.organisation.service.OrganisationService;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Organisation reads and writes through the service and repository layers against an embedded
+ * database seeded with {@code organisations} rows of {@code contacts} HR contacts each. Caching
+ * is not enabled, so every call reaches the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrganisationPersistenceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int SEED_CHUNK = 5_000;
+    private static final OrganisationFieldSet WITH_CONTACTS = OrganisationFieldSet.parse("name,hrContacts");
+
+    @Param({"1000", "10000"})
+    public int organisations;
+
+    @Param({"3"})
+    public int contacts;
+
+    private ConfigurableApplicationContext context;
+    private OrganisationService organisationService;
+    private OrganisationSearchService searchService;
+    private final List<Long> ids = new ArrayList<>();
+    private int created;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        organisationService = context.getBean(OrganisationService.class);
+        searchService = context.getBean(OrganisationSearchService.class);
+        OrganisationImportService importService = context.getBean(OrganisationImportService.class);
+
+        for (int from = 0; from < organisations; from += SEED_CHUNK) {
+            ImportReport report = importService.importOrganisations(
+                    BenchmarkData.organisations(from, Math.min(SEED_CHUNK, organisations - from), contacts));
+            report.getRows().stream()
+                    .filter(row -> row.getStatus() == ImportRowResult.Status.IMPORTED)
+                    .forEach(row -> ids.add(row.getId()));
+        }
+        created = organisations;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<OrganisationSummary> listSummaries() {
+        return organisationService.summaries(new OrganisationFilter(), randomPage());
+    }
+
+    @Benchmark
+    public Page<Map<String, Object>> listWithContacts() {
+        return organisationService.listFields(new OrganisationFilter(), randomPage(), WITH_CONTACTS);
+    }
+
+    @Benchmark
+    public Organisation getById() {
+        return organisationService.getById(randomId());
+    }
+
+    @Benchmark
+    public Organisation create() {
+        return organisationService.create(BenchmarkData.organisation(created++, contacts));
+    }
+
+    /** Renames an organisation through the merge-patch path, leaving its contacts in place. */
+    @Benchmark
+    public Organisation update() {
+        ObjectNode patch = JsonNodeFactory.instance.objectNode()
+                .put("name", "Renamed " + ThreadLocalRandom.current().nextInt(1_000_000));
+        return organisationService.patch(randomId(), patch, null);
+    }
+
+    @Benchmark
+    public List<OrganisationSearchHit> search() {
+        return searchService.search(BenchmarkData.CITIES[ThreadLocalRandom.current().nextInt(BenchmarkData.CITIES.length)]
+                + " " + BenchmarkData.INDUSTRIES[ThreadLocalRandom.current().nextInt(BenchmarkData.INDUSTRIES.length)],
+                PAGE_SIZE);
+    }
+
+    private PageRequest randomPage() {
+        int pages = Math.max(1, organisations / PAGE_SIZE);
+        return PageRequest.of(ThreadLocalRandom.current().nextInt(pages), PAGE_SIZE, Sort.by("name"));
+    }
+
+    private Long randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.academicerp.benchmark;
+
+import com.example.academicerp.config.ColumnarJsonHttpMessageConverter;
+import com.example.academicerp.organisation.dto.PageResponse;
+import com.example.academicerp.organisation.entity.Organisation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of organisation graphs as returned by the API, by number of HR contacts, for
+ * each response format a page can be negotiated to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrganisationSerializationBenchmark {
+
+    @Param({"0", "5", "25"})
+    public int contacts;
+
+    private ObjectMapper objectMapper;
+    private Organisation organisation;
+    private List<Organisation> page;
+    private PageResponse<Organisation> pageResponse;
+    private byte[] json;
+    private ObjectMapper smileMapper;
+    private ObjectMapper cborMapper;
+    private ColumnarJsonHttpMessageConverter columnarConverter;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Same defaults Spring MVC applies to the HTTP message converter
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        organisation = BenchmarkData.organisation(1, contacts);
+        page = BenchmarkData.organisations(0, 20, contacts);
+        json = objectMapper.writeValueAsBytes(organisation);
+        pageResponse = PageResponse.of(new PageImpl<>(page, PageRequest.of(0, 20), 100));
+        smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+        cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+        columnarConverter = new ColumnarJsonHttpMessageConverter(objectMapper);
+    }
+
+    @Benchmark
+    public byte[] serializeOne() throws Exception {
+        return objectMapper.writeValueAsBytes(organisation);
+    }
+
+    @Benchmark
+    public byte[] serializePageOf20() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializePageOf20Smile() throws Exception {
+        return smileMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializePageOf20Cbor() throws Exception {
+        return cborMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializePageOf20Columnar() throws Exception {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        columnarConverter.write(pageResponse, null, message);
+        return message.getBodyAsBytes();
+    }
+
+    @Benchmark
+    public Organisation deserializeOne() throws Exception {
+        return objectMapper.readValue(json, Organisation.class);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.academicerp.benchmark;
+
+import com.example.academicerp.organisation.entity.Organisation;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/** Bean Validation of organisation payloads, cascading into the HR contacts. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrganisationValidationBenchmark {
+
+    @Param({"0", "5", "25"})
+    public int contacts;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private Organisation valid;
+    private Organisation invalid;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        valid = BenchmarkData.organisation(1, contacts);
+        invalid = BenchmarkData.organisation(2, contacts);
+        invalid.setName("");
+        invalid.getHrContacts().forEach(hr -> hr.setContactNumber("123"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Organisation>> validPayload() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Organisation>> invalidPayload() {
+        return validator.validate(invalid);
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.academicerp.benchmark;
+
+import com.example.academicerp.organisation.controller.OrganisationController;
+import com.example.academicerp.organisation.dto.ImportReport;
+import com.example.academicerp.organisation.dto.ImportRowResult;
+import com.example.academicerp.organisation.service.OrganisationImportService;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request throughput under 256 concurrent clients with Tomcat on platform threads (capped at
+ * {@value #TOMCAT_THREADS} workers) and on virtual threads.
+ * <p>
+ * {@code downstream} blocks each request on an outbound {@link RestTemplate} call to a stub
+ * answering after {@code latencyMillis}, like the Google token exchange. Platform threads top
+ * out at about {@code TOMCAT_THREADS / latency} requests per second; virtual threads release
+ * their carrier while waiting and scale with the clients. {@code database} reads an
+ * organisation by id, where the JDBC pool bounds both modes alike. The {@code virtual} runs
+ * need a Java 21 runtime; on older JVMs Spring Boot falls back to platform threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(256)
+@Warmup(time = 5)
+@Measurement(time = 10)
+public class RequestThreadingBenchmark {
+
+    private static final int TOMCAT_THREADS = 64;
+    private static final int ORGANISATIONS = 1_000;
+
+    @Param({"platform", "virtual"})
+    public String threading;
+
+    @Param({"50"})
+    public int latencyMillis;
+
+    private HttpServer downstream;
+    private ExecutorService downstreamExecutor;
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        downstreamExecutor = Executors.newCachedThreadPool();
+        downstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        downstream.setExecutor(downstreamExecutor);
+        downstream.createContext("/token", exchange -> {
+            sleep(latencyMillis);
+            byte[] body = "{\"access_token\":\"benchmark\",\"expires_in\":3600}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        downstream.start();
+
+        context = BenchmarkApplication.builder()
+                .sources(DownstreamController.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "spring.threads.virtual.enabled=" + threading.equals("virtual"),
+                        "benchmark.downstream-url=http://127.0.0.1:" + downstream.getAddress().getPort() + "/token")
+                .run();
+        baseUrl = "http://127.0.0.1:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        ImportReport report = context.getBean(OrganisationImportService.class)
+                .importOrganisations(BenchmarkData.organisations(0, ORGANISATIONS, 3));
+        ids = report.getRows().stream()
+                .filter(row -> row.getStatus() == ImportRowResult.Status.IMPORTED)
+                .map(ImportRowResult::getId)
+                .toList();
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        downstream.stop(0);
+        downstreamExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public int downstream() throws IOException, InterruptedException {
+        return get("/benchmark/downstream");
+    }
+
+    @Benchmark
+    public int database() throws IOException, InterruptedException {
+        return get("/api/organisations/" + ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+    }
+
+    private int get(String path) throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + path)).build(),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + path + " returned " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+
+    private static void sleep(int millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Blocks the request thread on an outbound call the way the OAuth token exchange does. */
+    @RestController
+    @Import(OrganisationController.class)
+    static class DownstreamController {
+
+        private final RestTemplate restTemplate;
+        private final String url;
+
+        DownstreamController(RestTemplateBuilder builder,
+                             @Value("${benchmark.downstream-url}") String url) {
+            this.restTemplate = builder.build();
+            this.url = url;
+        }
+
+        @GetMapping("/benchmark/downstream")
+        String call() {
+            return restTemplate.getForObject(url, String.class);
+        }
+    }
+}
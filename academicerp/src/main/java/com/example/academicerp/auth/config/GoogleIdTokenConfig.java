@@ -0,0 +1,71 @@
+package com.example.academicerp.auth.config;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.text.ParseException;
+import java.util.Collection;
+
+/**
+ * Verifies Google ID tokens without a round trip per request. Signatures are checked against
+ * Google's JWK set, which is cached and refreshed in the background before it expires; a token
+ * signed with an unknown key triggers a rate-limited refetch, covering key rotation. Issuer,
+ * audience (our client id) and expiry are then validated.
+ */
+@Configuration
+public class GoogleIdTokenConfig {
+
+    @Bean
+    public JWKSource<SecurityContext> googleJwkSource(GoogleOAuthProperties props, ResourceLoader resourceLoader)
+            throws IOException, ParseException {
+        GoogleOAuthProperties.IdToken settings = props.getIdToken();
+        String location = settings.getJwkSetUri();
+        if (!location.startsWith("http:") && !location.startsWith("https:")) {
+            try (InputStream in = resourceLoader.getResource(location).getInputStream()) {
+                return new ImmutableJWKSet<>(JWKSet.load(in));
+            }
+        }
+        // Closed with the bean, which stops the background refresh
+        return JWKSourceBuilder.<SecurityContext>create(URI.create(location).toURL())
+                .cache(settings.getKeyCacheTtl().toMillis(), JWKSourceBuilder.DEFAULT_CACHE_REFRESH_TIMEOUT)
+                .refreshAheadCache(settings.getKeyRefreshAhead().toMillis(), true)
+                .build();
+    }
+
+    @Bean
+    public JwtDecoder googleIdTokenDecoder(JWKSource<SecurityContext> googleJwkSource, GoogleOAuthProperties props) {
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, googleJwkSource));
+        // Claims are checked by the validators below
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        GoogleOAuthProperties.IdToken settings = props.getIdToken();
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                new JwtTimestampValidator(settings.getClockSkew()),
+                new JwtClaimValidator<Object>(JwtClaimNames.ISS,
+                        iss -> iss != null && settings.getIssuers().contains(iss.toString())),
+                new JwtClaimValidator<Collection<String>>(JwtClaimNames.AUD,
+                        aud -> aud != null && aud.contains(props.getClientId()))));
+        return decoder;
+    }
+}
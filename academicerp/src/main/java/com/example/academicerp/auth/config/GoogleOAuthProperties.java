@@ -2,12 +2,18 @@ package com.example.academicerp.auth.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.List;
+
 @ConfigurationProperties(prefix = "google.oauth")
 public class GoogleOAuthProperties {
 
     private String clientId;
     private String clientSecret;
     private String redirectUri;
+    private String tokenUri = "https://oauth2.googleapis.com/token";
+    private final TokenClient tokenClient = new TokenClient();
+    private final IdToken idToken = new IdToken();
 
     public String getClientId() { return clientId; }
     public void setClientId(String clientId) { this.clientId = clientId; }
@@ -17,4 +23,89 @@ public class GoogleOAuthProperties {
 
     public String getRedirectUri() { return redirectUri; }
     public void setRedirectUri(String redirectUri) { this.redirectUri = redirectUri; }
+
+    public String getTokenUri() { return tokenUri; }
+    public void setTokenUri(String tokenUri) { this.tokenUri = tokenUri; }
+
+    public TokenClient getTokenClient() { return tokenClient; }
+
+    public IdToken getIdToken() { return idToken; }
+
+    /** HTTP client and resilience settings for calls to the token endpoint ({@code google.oauth.token-client.*}). */
+    public static class TokenClient {
+
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(5);
+        /** Pooled connections kept to the token endpoint; also the bulkhead's concurrent call limit. */
+        private int maxConnections = 20;
+        /** How long a call waits for a free bulkhead slot before it is rejected with 503. */
+        private Duration maxWait = Duration.ofMillis(500);
+        private int maxAttempts = 3;
+        /** First retry delay; doubled on each further attempt, with jitter. */
+        private Duration retryBackoff = Duration.ofMillis(200);
+        /** Percentage of failed calls in the sliding window that opens the circuit. */
+        private float failureRateThreshold = 50;
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        public Duration getConnectTimeout() { return connectTimeout; }
+        public void setConnectTimeout(Duration connectTimeout) { this.connectTimeout = connectTimeout; }
+
+        public Duration getReadTimeout() { return readTimeout; }
+        public void setReadTimeout(Duration readTimeout) { this.readTimeout = readTimeout; }
+
+        public int getMaxConnections() { return maxConnections; }
+        public void setMaxConnections(int maxConnections) { this.maxConnections = maxConnections; }
+
+        public Duration getMaxWait() { return maxWait; }
+        public void setMaxWait(Duration maxWait) { this.maxWait = maxWait; }
+
+        public int getMaxAttempts() { return maxAttempts; }
+        public void setMaxAttempts(int maxAttempts) { this.maxAttempts = maxAttempts; }
+
+        public Duration getRetryBackoff() { return retryBackoff; }
+        public void setRetryBackoff(Duration retryBackoff) { this.retryBackoff = retryBackoff; }
+
+        public float getFailureRateThreshold() { return failureRateThreshold; }
+        public void setFailureRateThreshold(float failureRateThreshold) { this.failureRateThreshold = failureRateThreshold; }
+
+        public int getSlidingWindowSize() { return slidingWindowSize; }
+        public void setSlidingWindowSize(int slidingWindowSize) { this.slidingWindowSize = slidingWindowSize; }
+
+        public int getMinimumNumberOfCalls() { return minimumNumberOfCalls; }
+        public void setMinimumNumberOfCalls(int minimumNumberOfCalls) { this.minimumNumberOfCalls = minimumNumberOfCalls; }
+
+        public Duration getOpenDuration() { return openDuration; }
+        public void setOpenDuration(Duration openDuration) { this.openDuration = openDuration; }
+    }
+
+    /** Local verification of Google ID tokens presented as bearer tokens ({@code google.oauth.id-token.*}). */
+    public static class IdToken {
+
+        /** Google's signing keys; a {@code file:} or {@code classpath:} location loads a fixed key set instead. */
+        private String jwkSetUri = "https://www.googleapis.com/oauth2/v3/certs";
+        private List<String> issuers = List.of("https://accounts.google.com", "accounts.google.com");
+        /** How long fetched keys are used before they must be fetched again. */
+        private Duration keyCacheTtl = Duration.ofHours(6);
+        /** Keys are refetched in the background this long before they expire. */
+        private Duration keyRefreshAhead = Duration.ofMinutes(10);
+        /** Tolerated clock difference when checking {@code exp} and {@code nbf}. */
+        private Duration clockSkew = Duration.ofSeconds(60);
+
+        public String getJwkSetUri() { return jwkSetUri; }
+        public void setJwkSetUri(String jwkSetUri) { this.jwkSetUri = jwkSetUri; }
+
+        public List<String> getIssuers() { return issuers; }
+        public void setIssuers(List<String> issuers) { this.issuers = issuers; }
+
+        public Duration getKeyCacheTtl() { return keyCacheTtl; }
+        public void setKeyCacheTtl(Duration keyCacheTtl) { this.keyCacheTtl = keyCacheTtl; }
+
+        public Duration getKeyRefreshAhead() { return keyRefreshAhead; }
+        public void setKeyRefreshAhead(Duration keyRefreshAhead) { this.keyRefreshAhead = keyRefreshAhead; }
+
+        public Duration getClockSkew() { return clockSkew; }
+        public void setClockSkew(Duration clockSkew) { this.clockSkew = clockSkew; }
+    }
 }
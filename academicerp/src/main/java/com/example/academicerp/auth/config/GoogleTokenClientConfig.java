@@ -0,0 +1,52 @@
+package com.example.academicerp.auth.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * Connection pool for the Google token endpoint. Connections are kept alive between logins,
+ * every phase of a call is bounded by a timeout, and the client's own retries are off because
+ * {@code AuthService} decides what is safe to retry.
+ */
+@Configuration
+public class GoogleTokenClientConfig {
+
+    @Bean
+    public HttpComponentsClientHttpRequestFactory googleTokenRequestFactory(GoogleOAuthProperties props) {
+        return requestFactory(props.getTokenClient());
+    }
+
+    public static HttpComponentsClientHttpRequestFactory requestFactory(GoogleOAuthProperties.TokenClient settings) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.getMaxConnections())
+                .setMaxConnPerRoute(settings.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(settings.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(settings.getReadTimeout()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(settings.getMaxWait()))
+                        .setResponseTimeout(Timeout.of(settings.getReadTimeout()))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .disableAutomaticRetries()
+                .build();
+        // Closed with the bean: destroy() shuts the client and its pool down
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+}
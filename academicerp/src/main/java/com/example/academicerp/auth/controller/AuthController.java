@@ -1,32 +1,67 @@
 package com.example.academicerp.auth.controller;
 
+import com.example.academicerp.auth.dto.AppAuthResponse;
+import com.example.academicerp.auth.dto.AuthCodeRequest;
+import com.example.academicerp.auth.dto.UserProfile;
+import com.example.academicerp.auth.service.AuthService;
+import com.example.academicerp.auth.service.UserProfileService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.oauth2.core.oidc.user.OidcUser;
-import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.Map;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
 
+    private final AuthService authService;
+    private final UserProfileService userProfileService;
+
+    public AuthController(AuthService authService, UserProfileService userProfileService) {
+        this.authService = authService;
+        this.userProfileService = userProfileService;
+    }
+
+    /** Trades an authorization code for a Google ID token to send as {@code Authorization: Bearer}. */
+    @PostMapping("/exchange")
+    public AppAuthResponse exchange(@RequestBody AuthCodeRequest request) {
+        return authService.login(request.getCode());
+    }
+
+    /**
+     * The signed-in user. Session logins are answered from the profile stored at login and bearer
+     * logins from the profile cache, so neither touches the database; unchanged profiles get a 304.
+     */
     @GetMapping("/me")
-    public ResponseEntity<?> me(@AuthenticationPrincipal Object principal) {
-        if (principal instanceof OidcUser oidc) {
-            return ResponseEntity.ok(Map.of(
-                    "name", oidc.getFullName() != null ? oidc.getFullName() : oidc.getGivenName(),
-                    "email", oidc.getEmail()
-            ));
+    public ResponseEntity<UserProfile> me(@AuthenticationPrincipal Object principal, HttpServletRequest request,
+                                          WebRequest webRequest) {
+        HttpSession session = request.getSession(false);
+        UserProfile profile = session != null ? (UserProfile) session.getAttribute(UserProfile.SESSION_ATTRIBUTE) : null;
+        if (profile == null) {
+            UserProfileService.Identity identity = UserProfileService.identityOf(principal);
+            if (identity == null) {
+                return ResponseEntity.status(401).build();
+            }
+            profile = userProfileService.profile(identity);
+            if (session != null) {
+                session.setAttribute(UserProfile.SESSION_ATTRIBUTE, profile);
+            }
         }
-        if (principal instanceof OAuth2User oauth2) {
-            String name = String.valueOf(oauth2.getAttributes().getOrDefault("name", oauth2.getName()));
-            String email = String.valueOf(oauth2.getAttributes().getOrDefault("email", ""));
-            return ResponseEntity.ok(Map.of("name", name, "email", email));
+
+        if (webRequest.checkNotModified(profile.etag(), profile.lastModified())) {
+            return null;
         }
-        return ResponseEntity.status(401).build();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(profile.etag())
+                .lastModified(profile.lastModified())
+                .body(profile);
     }
 }
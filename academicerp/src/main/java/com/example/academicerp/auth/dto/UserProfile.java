@@ -0,0 +1,31 @@
+package com.example.academicerp.auth.dto;
+
+import com.example.academicerp.model.User;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * The signed-in user as returned by {@code /api/auth/me}. Kept in the HTTP session after login,
+ * so it must stay serializable.
+ */
+public record UserProfile(Long id, String name, String email, LocalDateTime updatedAt) implements Serializable {
+
+    public static final String SESSION_ATTRIBUTE = UserProfile.class.getName();
+
+    public static UserProfile of(User user) {
+        return new UserProfile(user.getId(), user.getName(), user.getEmail(), user.getUpdatedAt());
+    }
+
+    /** Strong ETag: changes whenever the stored user does. */
+    public String etag() {
+        long micros = updatedAt != null ? ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), updatedAt) : 0;
+        return "\"u" + id + "-" + Long.toHexString(micros) + "\"";
+    }
+
+    public long lastModified() {
+        return updatedAt != null ? updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1L;
+    }
+}
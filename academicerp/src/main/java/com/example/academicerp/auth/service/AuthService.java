@@ -3,28 +3,105 @@ package com.example.academicerp.auth.service;
 import com.example.academicerp.auth.config.GoogleOAuthProperties;
 import com.example.academicerp.auth.dto.AuthTokenResponse;
 import com.example.academicerp.auth.dto.AppAuthResponse;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.net.ConnectException;
+import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.function.Supplier;
 
+/**
+ * Exchanges OAuth authorization codes at the Google token endpoint. Calls go through a pooled
+ * client with bounded timeouts and are guarded, outermost first, by a bulkhead limiting
+ * concurrent exchanges, retries with exponential backoff for failures that cannot have used up
+ * the code, and a circuit breaker that fails fast while the endpoint keeps failing.
+ */
+@Slf4j
 @Service
 public class AuthService {
 
-    private static final String GOOGLE_TOKEN_URL = "https://oauth2.googleapis.com/token";
-
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
     private final GoogleOAuthProperties props;
+    private final Bulkhead bulkhead;
+    private final Retry retry;
+    private final CircuitBreaker circuitBreaker;
+    private final JwtDecoder idTokenDecoder;
 
-    public AuthService(GoogleOAuthProperties props) {
+    public AuthService(GoogleOAuthProperties props, RestTemplateBuilder restTemplateBuilder,
+                       ClientHttpRequestFactory googleTokenRequestFactory, JwtDecoder idTokenDecoder) {
         this.props = props;
+        this.idTokenDecoder = idTokenDecoder;
+        // The auto-configured builder times each call as http.client.requests
+        this.restTemplate = restTemplateBuilder.requestFactory(() -> googleTokenRequestFactory).build();
+
+        GoogleOAuthProperties.TokenClient settings = props.getTokenClient();
+        this.bulkhead = Bulkhead.of("googleToken", BulkheadConfig.custom()
+                .maxConcurrentCalls(settings.getMaxConnections())
+                .maxWaitDuration(settings.getMaxWait())
+                .build());
+        this.retry = Retry.of("googleToken", RetryConfig.custom()
+                .maxAttempts(settings.getMaxAttempts())
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(settings.getRetryBackoff(), 2.0, 0.5))
+                .retryOnException(AuthService::isRetryable)
+                .build());
+        this.circuitBreaker = CircuitBreaker.of("googleToken", CircuitBreakerConfig.custom()
+                .failureRateThreshold(settings.getFailureRateThreshold())
+                .slidingWindowSize(settings.getSlidingWindowSize())
+                .minimumNumberOfCalls(settings.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(settings.getOpenDuration())
+                .permittedNumberOfCallsInHalfOpenState(2)
+                // A rejected code is the caller's problem, not a sign the endpoint is unhealthy
+                .recordException(AuthService::isTransient)
+                .build());
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("Google token endpoint circuit {}", event.getStateTransition()));
+    }
+
+    /**
+     * Exchanges the code and returns Google's ID token for the client to send as a bearer token.
+     * It is verified here first so a client never holds a token the API would reject.
+     */
+    public AppAuthResponse login(String code) {
+        if (code == null || code.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Authorization code is required");
+        }
+        AuthTokenResponse tokens = exchangeCodeForTokens(code);
+        if (tokens == null || tokens.getIdToken() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY,
+                    "Google token endpoint returned no ID token");
+        }
+        try {
+            idTokenDecoder.decode(tokens.getIdToken());
+        } catch (JwtException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY,
+                    "Google returned an ID token that failed verification");
+        }
+        return new AppAuthResponse(tokens.getIdToken());
     }
 
     public AuthTokenResponse exchangeCodeForTokens(String code) {
@@ -47,16 +124,24 @@ public class AuthService {
 
         HttpEntity<MultiValueMap<String, String>> entity = new HttpEntity<>(form, headers);
 
-        try {
-            ResponseEntity<AuthTokenResponse> response =
-                    restTemplate.exchange(GOOGLE_TOKEN_URL,
-                            HttpMethod.POST,
-                            entity,
-                            AuthTokenResponse.class);
+        Supplier<AuthTokenResponse> call = () -> restTemplate.exchange(props.getTokenUri(),
+                HttpMethod.POST,
+                entity,
+                AuthTokenResponse.class).getBody();
+        call = CircuitBreaker.decorateSupplier(circuitBreaker, call);
+        call = Retry.decorateSupplier(retry, call);
+        call = Bulkhead.decorateSupplier(bulkhead, call);
 
-            return response.getBody();
+        try {
+            return call.get();
 
-        } catch (RestClientResponseException ex) {
+        } catch (BulkheadFullException ex) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Too many sign-ins in progress, try again shortly");
+        } catch (CallNotPermittedException | HttpClientErrorException.TooManyRequests ex) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Google sign-in is temporarily unavailable");
+        } catch (HttpClientErrorException ex) {
             throw new ResponseStatusException(
                     HttpStatus.BAD_REQUEST,
                     ex.getResponseBodyAsString()
@@ -66,4 +151,26 @@ public class AuthService {
                     "Failed to call Google token endpoint");
         }
     }
+
+    /** Timeouts, connection failures, 5xx and 429 count against the endpoint; other 4xx do not. */
+    private static boolean isTransient(Throwable ex) {
+        return ex instanceof ResourceAccessException
+                || ex instanceof HttpServerErrorException
+                || ex instanceof HttpClientErrorException.TooManyRequests;
+    }
+
+    /**
+     * Only failures where Google cannot have seen the code are retried. A code is single-use,
+     * so after a read timeout it may already be redeemed and a retry would fail with
+     * {@code invalid_grant} instead of the slow success.
+     */
+    private static boolean isRetryable(Throwable ex) {
+        if (ex instanceof ResourceAccessException) {
+            Throwable cause = ex.getCause();
+            return cause instanceof ConnectException
+                    || cause instanceof ConnectTimeoutException
+                    || cause instanceof UnknownHostException;
+        }
+        return isTransient(ex);
+    }
 }
@@ -0,0 +1,76 @@
+package com.example.academicerp.auth.service;
+
+import com.example.academicerp.auth.dto.UserProfile;
+import com.example.academicerp.config.CacheConfig;
+import com.example.academicerp.model.User;
+import com.example.academicerp.repository.UserRepository;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+/**
+ * Maps authenticated principals to persisted {@link User}s. The user row is created or refreshed
+ * once at login; afterwards profiles are served from the session or the profile cache.
+ */
+@Service
+public class UserProfileService {
+
+    /** Name and email claimed by a principal. */
+    public record Identity(String email, String name) {
+    }
+
+    private final UserRepository userRepository;
+
+    public UserProfileService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /** Creates the user or updates a changed name, and caches the resulting profile. */
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.USER_PROFILES, key = "#identity.email()")
+    public UserProfile upsert(Identity identity) {
+        User user = userRepository.findByEmailIgnoreCase(identity.email())
+                .orElseGet(() -> new User(identity.name(), identity.email()));
+        if (user.getId() == null || !user.getName().equals(identity.name())) {
+            user.setName(identity.name());
+            // Flushed so @UpdateTimestamp has set the version the profile's ETag is built from
+            user = userRepository.saveAndFlush(user);
+        }
+        return UserProfile.of(user);
+    }
+
+    /** The profile for a principal that logged in elsewhere, e.g. with a bearer token. */
+    @Transactional
+    @Cacheable(cacheNames = CacheConfig.USER_PROFILES, key = "#identity.email()")
+    public UserProfile profile(Identity identity) {
+        return upsert(identity);
+    }
+
+    /** The identity carried by a principal, or {@code null} if it has no email. */
+    public static Identity identityOf(Object principal) {
+        String email = null;
+        String name = null;
+        if (principal instanceof OidcUser oidc) {
+            email = oidc.getEmail();
+            name = oidc.getFullName() != null ? oidc.getFullName() : oidc.getGivenName();
+        } else if (principal instanceof OAuth2User oauth2) {
+            email = oauth2.getAttribute("email");
+            name = oauth2.getAttribute("name");
+        } else if (principal instanceof Jwt jwt) {
+            email = jwt.getClaimAsString("email");
+            name = jwt.getClaimAsString("name");
+        }
+        if (!StringUtils.hasText(email)) {
+            return null;
+        }
+        email = email.trim().toLowerCase(Locale.ROOT);
+        return new Identity(email, StringUtils.hasText(name) ? name : email);
+    }
+}
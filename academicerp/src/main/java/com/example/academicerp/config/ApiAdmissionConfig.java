@@ -0,0 +1,63 @@
+package com.example.academicerp.config;
+
+import com.example.academicerp.security.AdaptiveConcurrencyLimiter;
+import com.example.academicerp.security.ApiAdmissionFilter;
+import com.example.academicerp.security.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Rate limiting and load shedding for the API (see {@link ApiAdmissionFilter}). The filter runs
+ * inside the security filter chains, not as a servlet filter of its own. Defaults are in
+ * {@code admission.properties}.
+ */
+@Configuration
+@PropertySource("classpath:admission.properties")
+public class ApiAdmissionConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter apiConcurrencyLimiter(
+            MeterRegistry registry,
+            @Value("${api.admission.concurrency.initial-limit}") int initialLimit,
+            @Value("${api.admission.concurrency.min-limit}") int minLimit,
+            @Value("${api.admission.concurrency.max-limit}") int maxLimit,
+            @Value("${api.admission.concurrency.latency-threshold}") Duration latencyThreshold,
+            @Value("${api.admission.concurrency.pool-wait-threshold}") Duration poolWaitThreshold,
+            @Value("${api.admission.concurrency.window}") Duration window) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, latencyThreshold,
+                poolWaitThreshold, window, registry);
+    }
+
+    @Bean
+    public ApiAdmissionFilter apiAdmissionFilter(
+            Environment environment, AdaptiveConcurrencyLimiter apiConcurrencyLimiter, MeterRegistry registry,
+            @Value("${api.admission.enabled}") boolean enabled,
+            @Value("${api.admission.max-callers}") long maxCallers,
+            @Value("${api.admission.caller-idle-timeout}") Duration idleTimeout) {
+        Map<ApiAdmissionFilter.Tier, TokenBucketRateLimiter> rateLimiters = new EnumMap<>(ApiAdmissionFilter.Tier.class);
+        for (ApiAdmissionFilter.Tier tier : ApiAdmissionFilter.Tier.values()) {
+            String prefix = "api.admission." + tier.name().toLowerCase() + ".";
+            rateLimiters.put(tier, new TokenBucketRateLimiter(
+                    environment.getRequiredProperty(prefix + "permits-per-second", Double.class),
+                    environment.getRequiredProperty(prefix + "burst", Integer.class),
+                    maxCallers, idleTimeout));
+        }
+        return new ApiAdmissionFilter(enabled, rateLimiters, apiConcurrencyLimiter, registry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ApiAdmissionFilter> apiAdmissionFilterRegistration(ApiAdmissionFilter filter) {
+        FilterRegistrationBean<ApiAdmissionFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.academicerp.config;
+
+import org.springframework.http.MediaType;
+
+/** Response formats offered besides JSON; clients pick one through {@code Accept}. */
+public final class ApiMediaTypes {
+
+    /** Binary JSON: the same document, with field names and short strings written once and referenced after. */
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType SMILE = MediaType.parseMediaType(SMILE_VALUE);
+
+    /** Pages as a {@code columns} header and one array per row instead of one object per row. */
+    public static final String COLUMNAR_JSON_VALUE = "application/vnd.academicerp.columnar+json";
+    public static final MediaType COLUMNAR_JSON = MediaType.parseMediaType(COLUMNAR_JSON_VALUE);
+
+    private ApiMediaTypes() {
+    }
+}
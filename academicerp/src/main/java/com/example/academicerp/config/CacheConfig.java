@@ -0,0 +1,75 @@
+package com.example.academicerp.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * In-process read-through caches, one set per node. Caffeine bounds each cache by size and TTL
+ * and evicts with W-TinyLFU.
+ * <p>
+ * The manager is transaction aware, so a write's evictions are applied after it commits. That
+ * alone is not enough: a reader that loaded the old row before the commit can still cache it
+ * after the eviction, and other nodes never see the eviction at all. Organisation entries are
+ * therefore also evicted on every node from the change outbox by
+ * {@link com.example.academicerp.organisation.service.OrganisationCacheInvalidator}, which bounds
+ * their staleness to a few seconds. User profiles are not invalidated across nodes; a profile
+ * changed on another node can be served for up to {@code user.cache.profiles.ttl}.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String ORGANISATIONS = "organisations";
+    public static final String ORGANISATION_PAGES = "organisationPages";
+    public static final String USER_PROFILES = "userProfiles";
+
+    @Value("${organisation.cache.by-id.max-size:10000}")
+    private long byIdMaxSize;
+
+    @Value("${organisation.cache.by-id.ttl:10m}")
+    private Duration byIdTtl;
+
+    @Value("${organisation.cache.pages.max-size:1000}")
+    private long pagesMaxSize;
+
+    @Value("${organisation.cache.pages.ttl:1m}")
+    private Duration pagesTtl;
+
+    @Value("${user.cache.profiles.max-size:10000}")
+    private long profilesMaxSize;
+
+    @Value("${user.cache.profiles.ttl:10m}")
+    private Duration profilesTtl;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        manager.registerCustomCache(ORGANISATIONS, Caffeine.newBuilder()
+                .maximumSize(byIdMaxSize)
+                .expireAfterWrite(byIdTtl)
+                .recordStats()
+                .build());
+        manager.registerCustomCache(ORGANISATION_PAGES, Caffeine.newBuilder()
+                .maximumSize(pagesMaxSize)
+                .expireAfterWrite(pagesTtl)
+                .recordStats()
+                .build());
+        manager.registerCustomCache(USER_PROFILES, Caffeine.newBuilder()
+                .maximumSize(profilesMaxSize)
+                .expireAfterWrite(profilesTtl)
+                .recordStats()
+                .build());
+        // Only the caches registered above exist; a typo in a cache name fails fast
+        manager.setCacheNames(List.of());
+        return new TransactionAwareCacheManagerProxy(manager);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.academicerp.config;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping(value = "/api/caches", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Caches", description = "Cache statistics for sizing")
+public class CacheStatsController {
+
+    private final CacheManager cacheManager;
+
+    public CacheStatsController(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Cache statistics", description = "Hit, miss and eviction counters and current size per cache")
+    public Map<String, Map<String, Object>> stats() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof TransactionAwareCacheDecorator decorator) {
+                cache = decorator.getTargetCache();
+            }
+            if (cache instanceof CaffeineCache caffeine) {
+                CacheStats stats = caffeine.getNativeCache().stats();
+                Map<String, Object> m = new LinkedHashMap<>();
+                m.put("size", caffeine.getNativeCache().estimatedSize());
+                m.put("hits", stats.hitCount());
+                m.put("misses", stats.missCount());
+                m.put("hitRate", stats.hitRate());
+                m.put("evictions", stats.evictionCount());
+                result.put(name, m);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.academicerp.config;
+
+import com.example.academicerp.organisation.dto.CursorPageResponse;
+import com.example.academicerp.organisation.dto.PageResponse;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Writes {@link PageResponse} and {@link CursorPageResponse} as {@link ApiMediaTypes#COLUMNAR_JSON}:
+ * {@code content} is replaced by {@code rows}, one array of values per row, and {@code columns},
+ * the field names in the order of those values; the other page properties stay as they are.
+ * Field names are then written once per page instead of once per row. Nested values, such as
+ * contacts, keep their JSON shape.
+ * <p>
+ * Rows of a page are serialized by the same bean or field set, so every row lists the same
+ * fields in the same order as the first.
+ */
+public class ColumnarJsonHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    public ColumnarJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper, ApiMediaTypes.COLUMNAR_JSON);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+        return (PageResponse.class.isAssignableFrom(clazz) || CursorPageResponse.class.isAssignableFrom(clazz))
+                && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        ObjectMapper objectMapper = getObjectMapper();
+        try (JsonGenerator json = objectMapper.getFactory()
+                .createGenerator(StreamUtils.nonClosing(outputMessage.getBody()), JsonEncoding.UTF8)) {
+            objectMapper.writeValue(new ColumnarGenerator(json), object);
+        }
+    }
+
+    private enum Level { PAGE, CONTENT, ROW, OTHER }
+
+    /**
+     * Rewrites the page while Jackson serializes it, so rows go straight to the output without an
+     * intermediate tree: {@code content} becomes {@code rows}, each row object becomes an array,
+     * and the first row's field names are written as {@code columns} when the page closes.
+     */
+    private static final class ColumnarGenerator extends JsonGeneratorDelegate {
+
+        private final Deque<Level> levels = new ArrayDeque<>();
+        private final List<String> columns = new ArrayList<>();
+        private boolean contentNext;
+        private boolean hasRows;
+        private int rows;
+        private int column;
+
+        ColumnarGenerator(JsonGenerator delegate) {
+            super(delegate, false);
+        }
+
+        @Override
+        public void writeFieldName(String name) throws IOException {
+            if (levels.peek() == Level.ROW) {
+                column(name);
+            } else if (levels.peek() == Level.PAGE && name.equals("content")) {
+                contentNext = true;
+                hasRows = true;
+                delegate.writeFieldName("rows");
+            } else {
+                delegate.writeFieldName(name);
+            }
+        }
+
+        @Override
+        public void writeFieldName(SerializableString name) throws IOException {
+            if (levels.peek() == Level.ROW || levels.peek() == Level.PAGE) {
+                writeFieldName(name.getValue());
+            } else {
+                delegate.writeFieldName(name);
+            }
+        }
+
+        @Override
+        public void writeStartObject() throws IOException {
+            startObject();
+            if (levels.peek() == Level.ROW) {
+                delegate.writeStartArray();
+            } else {
+                delegate.writeStartObject();
+            }
+        }
+
+        @Override
+        public void writeStartObject(Object forValue) throws IOException {
+            startObject();
+            if (levels.peek() == Level.ROW) {
+                delegate.writeStartArray(forValue);
+            } else {
+                delegate.writeStartObject(forValue);
+            }
+        }
+
+        @Override
+        public void writeStartObject(Object forValue, int size) throws IOException {
+            startObject();
+            if (levels.peek() == Level.ROW) {
+                delegate.writeStartArray(forValue, size);
+            } else {
+                delegate.writeStartObject(forValue, size);
+            }
+        }
+
+        @Override
+        public void writeEndObject() throws IOException {
+            Level level = levels.pop();
+            if (level == Level.ROW) {
+                if (column != columns.size()) {
+                    throw new HttpMessageNotWritableException("Row " + rows + " has fewer fields than the first row");
+                }
+                rows++;
+                delegate.writeEndArray();
+                return;
+            }
+            if (level == Level.PAGE && hasRows) {
+                delegate.writeArrayFieldStart("columns");
+                for (String name : columns) {
+                    delegate.writeString(name);
+                }
+                delegate.writeEndArray();
+            }
+            delegate.writeEndObject();
+        }
+
+        @Override
+        public void writeStartArray() throws IOException {
+            startArray();
+            delegate.writeStartArray();
+        }
+
+        @Override
+        public void writeStartArray(Object forValue) throws IOException {
+            startArray();
+            delegate.writeStartArray(forValue);
+        }
+
+        @Override
+        public void writeStartArray(Object forValue, int size) throws IOException {
+            startArray();
+            delegate.writeStartArray(forValue, size);
+        }
+
+        @Override
+        public void writeEndArray() throws IOException {
+            levels.pop();
+            delegate.writeEndArray();
+        }
+
+        private void startObject() {
+            Level parent = levels.peek();
+            if (parent == null) {
+                levels.push(Level.PAGE);
+            } else if (parent == Level.CONTENT) {
+                levels.push(Level.ROW);
+                column = 0;
+            } else {
+                levels.push(Level.OTHER);
+            }
+        }
+
+        private void startArray() {
+            levels.push(levels.peek() == Level.PAGE && contentNext ? Level.CONTENT : Level.OTHER);
+            contentNext = false;
+        }
+
+        private void column(String name) {
+            if (rows == 0) {
+                columns.add(name);
+            } else if (column >= columns.size() || !columns.get(column).equals(name)) {
+                throw new HttpMessageNotWritableException(
+                        "Row " + rows + " has field " + name + " where the first row has another");
+            }
+            column++;
+        }
+    }
+}
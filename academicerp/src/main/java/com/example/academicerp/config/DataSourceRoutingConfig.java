@@ -0,0 +1,77 @@
+package com.example.academicerp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to a MySQL replica and everything else to
+ * the primary, once {@code datasource.replica.url} is set; without it the single auto-configured
+ * pool is used as before. Each side has its own Hikari pool: the primary is configured under
+ * {@code spring.datasource.hikari.*} as usual, the replica under {@code datasource.replica.hikari.*}.
+ * <p>
+ * The choice is made when a transaction first needs a connection, which is why a read-only
+ * method called from a read-write one stays on the primary. Read-your-writes and failover are
+ * handled by {@link ReplicaRoutingDataSource}. Defaults are in {@code datasource-routing.properties}.
+ */
+@Configuration
+@ConditionalOnProperty("datasource.replica.url")
+@PropertySource("classpath:datasource-routing.properties")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(
+            @Qualifier("primaryDataSourceProperties") DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${datasource.routing.read-your-writes-window}") Duration readYourWritesWindow,
+            @Value("${datasource.routing.replica-retry-interval}") Duration retryInterval) {
+        return new ReplicaRoutingDataSource(primary, replica, readYourWritesWindow, retryInterval);
+    }
+
+    /** What JPA, Flyway and JDBC use: connections are fetched lazily, once read-only is known. */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(replicaRoutingDataSource.primary());
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+}
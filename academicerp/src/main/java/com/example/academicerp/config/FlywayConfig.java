@@ -0,0 +1,14 @@
+package com.example.academicerp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * The schema, including the Spring Session tables, is owned by the Flyway migrations under
+ * {@code db/migration/<vendor>} and applied on startup; Hibernate only validates it. Defaults
+ * are in {@code flyway.properties}.
+ */
+@Configuration
+@PropertySource("classpath:flyway.properties")
+public class FlywayConfig {
+}
@@ -0,0 +1,25 @@
+package com.example.academicerp.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Turns on Hibernate JDBC batching unless the environment already configures it. Pair with
+ * {@code rewriteBatchedStatements=true} on the MySQL JDBC URL so a batch becomes one multi-row
+ * INSERT on the wire.
+ */
+@Configuration
+public class JpaBatchingConfig {
+
+    public static final int BATCH_SIZE = 50;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", String.valueOf(BATCH_SIZE));
+            properties.putIfAbsent("hibernate.order_inserts", "true");
+            properties.putIfAbsent("hibernate.order_updates", "true");
+        };
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.academicerp.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Keeps recently used sessions of a shared store in memory so most requests touch neither the
+ * store nor the database.
+ * <p>
+ * A request served from the cache works on a private copy. Reads never load the stored session;
+ * the first change does, and the change is applied to both so the store persists exactly what
+ * was changed. After a write the cached copy is dropped and the next request reloads it. A
+ * request that only extends the session writes its access time at most once per
+ * {@code touchInterval}; the interval must be well below the session timeout.
+ * <p>
+ * Entries live for {@code ttl}, which bounds how long a change made on another node (an
+ * attribute, a logout) can go unnoticed here.
+ */
+public class NearCachingSessionRepository implements SessionRepository<NearCachingSessionRepository.CachedSession> {
+
+    private record Entry(MapSession session, Instant persistedAccess) {
+    }
+
+    private final SessionRepository<Session> delegate;
+    private final Cache<String, Entry> cache;
+    private final Duration touchInterval;
+
+    @SuppressWarnings("unchecked")
+    public <S extends Session> NearCachingSessionRepository(SessionRepository<S> delegate, Duration ttl, long maxSize,
+                                                            Duration touchInterval) {
+        // Only sessions this repository obtained from the delegate are ever handed back to it
+        this.delegate = (SessionRepository<Session>) delegate;
+        this.cache = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maxSize).build();
+        this.touchInterval = touchInterval;
+    }
+
+    @Override
+    public CachedSession createSession() {
+        Session stored = delegate.createSession();
+        return new CachedSession(new MapSession(stored), stored, null);
+    }
+
+    @Override
+    public CachedSession findById(String id) {
+        Entry entry = cache.getIfPresent(id);
+        if (entry != null && !entry.session().isExpired()) {
+            return new CachedSession(new MapSession(entry.session()), null, entry.persistedAccess());
+        }
+
+        Session stored = delegate.findById(id);
+        if (stored == null) {
+            cache.invalidate(id);
+            return null;
+        }
+        MapSession copy = new MapSession(stored);
+        cache.put(id, new Entry(new MapSession(copy), stored.getLastAccessedTime()));
+        return new CachedSession(copy, null, stored.getLastAccessedTime());
+    }
+
+    @Override
+    public void save(CachedSession session) {
+        String id = session.getId();
+        if (session.stored != null) {
+            if (!session.orphaned) {
+                delegate.save(session.stored);
+            }
+            cache.invalidate(session.originalId);
+            cache.invalidate(id);
+            return;
+        }
+
+        Instant accessed = session.getLastAccessedTime();
+        Instant persisted = session.persistedAccess;
+        if (persisted == null || Duration.between(persisted, accessed).compareTo(touchInterval) >= 0) {
+            Session stored = delegate.findById(id);
+            if (stored == null) {
+                cache.invalidate(id);
+                return;
+            }
+            stored.setLastAccessedTime(accessed);
+            delegate.save(stored);
+            persisted = accessed;
+        }
+        Instant persistedAccess = persisted;
+        cache.asMap().computeIfPresent(id, (key, entry) -> {
+            MapSession touched = new MapSession(entry.session());
+            touched.setLastAccessedTime(accessed);
+            return new Entry(touched, persistedAccess);
+        });
+    }
+
+    @Override
+    public void deleteById(String id) {
+        cache.invalidate(id);
+        delegate.deleteById(id);
+    }
+
+    /** A request's view of a session: reads come from a copy, changes also go to the stored session. */
+    public final class CachedSession implements Session {
+
+        private final MapSession state;
+        private final String originalId;
+        private final Instant persistedAccess;
+        private Session stored;
+        private boolean orphaned;
+
+        private CachedSession(MapSession state, Session stored, Instant persistedAccess) {
+            this.state = state;
+            this.originalId = state.getId();
+            this.stored = stored;
+            this.persistedAccess = persistedAccess;
+        }
+
+        @Override
+        public String getId() {
+            return state.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            String id = stored().changeSessionId();
+            state.setId(id);
+            return id;
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return state.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return state.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            stored().setAttribute(attributeName, attributeValue);
+            state.setAttribute(attributeName, attributeValue);
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            stored().removeAttribute(attributeName);
+            state.removeAttribute(attributeName);
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return state.getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            state.setLastAccessedTime(lastAccessedTime);
+            if (stored != null) {
+                stored.setLastAccessedTime(lastAccessedTime);
+            }
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return state.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            stored().setMaxInactiveInterval(interval);
+            state.setMaxInactiveInterval(interval);
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return state.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state.isExpired();
+        }
+
+        private Session stored() {
+            if (stored == null) {
+                stored = delegate.findById(originalId);
+                if (stored == null) {
+                    // Deleted or expired elsewhere: let this request finish on the copy alone
+                    stored = new MapSession(state);
+                    orphaned = true;
+                } else {
+                    stored.setLastAccessedTime(state.getLastAccessedTime());
+                }
+            }
+            return stored;
+        }
+    }
+}
@@ -5,9 +5,16 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Contact;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.License;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
+import org.springdoc.core.customizers.OpenApiCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -30,6 +37,12 @@ public class OpenAPIConfig {
                             This is the API documentation for the Academic ERP system.
                             Most endpoints require authentication via Google OAuth2.
                             To test authenticated endpoints, first sign in via the Google login page.
+
+                            Organisation responses come as JSON by default. Send Accept: application/x-jackson-smile
+                            or application/cbor for the same documents in a binary encoding, or, on the listings,
+                            Accept: application/vnd.academicerp.columnar+json for a ColumnarPage that names the
+                            fields once instead of on every row. Text responses over 2 KB are gzipped for clients
+                            sending Accept-Encoding: gzip.
                             """)
                         .version("1.0.0")
                         .contact(new Contact()
@@ -51,4 +64,40 @@ public class OpenAPIConfig {
                         )
                 );
     }
+
+    /**
+     * Springdoc gives every media type of a response the same schema; the columnar listings get
+     * their actual shape instead.
+     */
+    @Bean
+    public OpenApiCustomizer columnarPageSchema() {
+        return openApi -> {
+            openApi.getComponents().addSchemas("ColumnarPage", new ObjectSchema()
+                    .description("A page with content as columns and rows; the paging properties are unchanged")
+                    .addProperty("columns", new ArraySchema().items(new StringSchema())
+                            .description("Field names, in the order of the values in each row"))
+                    .addProperty("rows", new ArraySchema().items(new ArraySchema().items(new Schema<>()))
+                            .description("One array of values per row; nested values stay JSON objects"))
+                    .addProperty("page", new IntegerSchema())
+                    .addProperty("size", new IntegerSchema())
+                    .addProperty("totalElements", new IntegerSchema().format("int64"))
+                    .addProperty("totalPages", new IntegerSchema())
+                    .addProperty("nextCursor", new StringSchema().description("Cursor listings only")));
+            if (openApi.getPaths() == null) {
+                return;
+            }
+            openApi.getPaths().values().forEach(path -> path.readOperations().forEach(operation -> {
+                if (operation.getResponses() == null) {
+                    return;
+                }
+                operation.getResponses().values().forEach(response -> {
+                    MediaType columnar = response.getContent() == null
+                            ? null : response.getContent().get(ApiMediaTypes.COLUMNAR_JSON_VALUE);
+                    if (columnar != null) {
+                        columnar.setSchema(new Schema<>().$ref("#/components/schemas/ColumnarPage"));
+                    }
+                });
+            }));
+        };
+    }
 }
@@ -0,0 +1,55 @@
+package com.example.academicerp.config;
+
+import com.example.academicerp.organisation.repository.OrganisationChangeRepository;
+import com.example.academicerp.organisation.service.InMemoryOrganisationChangeSink;
+import com.example.academicerp.organisation.service.LoggingOrganisationChangeSink;
+import com.example.academicerp.organisation.service.OrganisationChangeSink;
+import com.example.academicerp.organisation.service.OrganisationEventBroadcaster;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * The organisation change outbox: changes are recorded in the writing transaction, published to
+ * the sink chosen by {@code organisation.changes.sink} ({@code log} or {@code memory}), served by
+ * {@code GET /api/organisations/changes} and pushed to browsers by {@link OrganisationEventBroadcaster}.
+ * Defaults are in {@code organisation-changes.properties}.
+ */
+@Configuration
+@PropertySource("classpath:organisation-changes.properties")
+public class OrganisationChangeConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "organisation.changes.sink", havingValue = "log")
+    public OrganisationChangeSink loggingOrganisationChangeSink() {
+        return new LoggingOrganisationChangeSink();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "organisation.changes.sink", havingValue = "memory")
+    public InMemoryOrganisationChangeSink inMemoryOrganisationChangeSink() {
+        return new InMemoryOrganisationChangeSink();
+    }
+
+    @Bean
+    public OrganisationEventBroadcaster organisationEventBroadcaster(
+            OrganisationChangeRepository changeRepository, MeterRegistry registry,
+            @Value("${organisation.events.sender-threads}") int senderThreads,
+            @Value("${organisation.events.buffer-size}") int bufferSize,
+            @Value("${organisation.events.max-clients}") int maxClients,
+            @Value("${organisation.events.replay-limit}") int replayLimit,
+            @Value("${organisation.events.timeout}") Duration timeout,
+            @Value("${organisation.changes.settle-time}") Duration settleTime) {
+        CustomizableThreadFactory threads = new CustomizableThreadFactory("organisation-events-");
+        threads.setDaemon(true);
+        return new OrganisationEventBroadcaster(changeRepository, Executors.newFixedThreadPool(senderThreads, threads),
+                bufferSize, maxClients, replayLimit, timeout, settleTime, registry);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.academicerp.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Where read-only transactions get their connection: the replica, unless
+ * <ul>
+ *   <li>the current user committed a read-write transaction within {@code readYourWritesWindow},
+ *       which the replica may not have applied yet, or</li>
+ *   <li>the replica recently failed to hand out a connection; it is left alone for
+ *       {@code retryInterval} and the primary serves its reads meanwhile.</li>
+ * </ul>
+ * Read-write transactions use {@link #primary()}, which notes the user on commit. Recent writers
+ * are remembered per node, so a user whose next request is served by another node may read from
+ * a replica that lags behind. Reads whose result outlives the request, such as cache fills, are
+ * sent to the primary with {@link #readFromPrimary}.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final Duration retryInterval;
+    private final Cache<String, Boolean> recentWriters;
+    private volatile long replicaDownUntil;
+    private volatile boolean replicaDown;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration readYourWritesWindow,
+                                    Duration retryInterval) {
+        this.primary = primary;
+        this.replica = replica;
+        this.retryInterval = retryInterval;
+        this.recentWriters = Caffeine.newBuilder().expireAfterWrite(readYourWritesWindow).build();
+    }
+
+    /**
+     * Runs {@code read} with its read-only transactions on the primary, for results a lagging
+     * replica must not provide: cached rows, or the current state of a row that just changed.
+     * Only connections obtained inside {@code read} are affected; the lazily connected
+     * transactions of {@link DataSourceRoutingConfig} get theirs at the first statement.
+     */
+    public static <T> T readFromPrimary(Supplier<T> read) {
+        Boolean outer = PRIMARY_READS.get();
+        PRIMARY_READS.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            if (outer == null) {
+                PRIMARY_READS.remove();
+            }
+        }
+    }
+
+    /** The primary as used by read-write transactions. */
+    public DataSource primary() {
+        return new DelegatingDataSource(primary) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                rememberWriterOnCommit();
+                return super.getConnection();
+            }
+        };
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String user = currentUser();
+        if (PRIMARY_READS.get() != null || (user != null && recentWriters.getIfPresent(user) != null)
+                || replicaDown()) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException ex) {
+            log.warn("Replica unavailable, reading from the primary for the next {}: {}", retryInterval, ex.getMessage());
+            replicaDownUntil = System.nanoTime() + retryInterval.toNanos();
+            replicaDown = true;
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Connections use the credentials of the configured pools");
+    }
+
+    private boolean replicaDown() {
+        if (replicaDown && System.nanoTime() - replicaDownUntil >= 0) {
+            replicaDown = false;
+        }
+        return replicaDown;
+    }
+
+    private void rememberWriterOnCommit() {
+        String user = currentUser();
+        if (user != null && TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWriters.put(user, Boolean.TRUE);
+                }
+            });
+        }
+    }
+
+    private static String currentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth == null || auth instanceof AnonymousAuthenticationToken ? null : auth.getName();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.academicerp.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Response formats and compression. Besides JSON, the API answers in Smile, CBOR and, for pages,
+ * {@link ApiMediaTypes#COLUMNAR_JSON}, whichever {@code Accept} prefers; all of them are written
+ * with the application's Jackson settings. Text responses above a size threshold are gzipped
+ * when the client accepts it. Defaults are in {@code compression.properties}.
+ */
+@Configuration
+@PropertySource("classpath:compression.properties")
+public class ResponseFormatConfig {
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public ColumnarJsonHttpMessageConverter columnarJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        return new ColumnarJsonHttpMessageConverter(objectMapper);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.academicerp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.session.JdbcSessionProperties;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * HTTP sessions, including the OAuth login state, stored in the {@code SPRING_SESSION} tables so
+ * that any node can serve any user and a restart logs nobody out. The JDBC repository sits
+ * behind a {@link NearCachingSessionRepository}, so a typical request reads its session from
+ * memory and writes nothing; expired rows are removed by {@link ExpiredSessionCleaner}.
+ * The tables are created by the Flyway migrations ({@link FlywayConfig}); defaults are in
+ * {@code session.properties}.
+ */
+@Configuration
+@EnableSpringHttpSession
+@EnableScheduling
+@EnableConfigurationProperties(JdbcSessionProperties.class)
+@PropertySource("classpath:session.properties")
+public class SessionStoreConfig {
+
+    @Bean
+    public JdbcIndexedSessionRepository jdbcSessionRepository(DataSource dataSource,
+                                                              PlatformTransactionManager transactionManager,
+                                                              JdbcSessionProperties properties,
+                                                              ServerProperties serverProperties) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        // Never join a caller's transaction: the session must be saved even if the request's work rolls back
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        JdbcIndexedSessionRepository repository =
+                new JdbcIndexedSessionRepository(new JdbcTemplate(dataSource), transactionTemplate);
+        Duration timeout = serverProperties.getServlet().getSession().getTimeout();
+        if (timeout != null) {
+            repository.setDefaultMaxInactiveInterval(timeout);
+        }
+        repository.setFlushMode(properties.getFlushMode());
+        repository.setSaveMode(properties.getSaveMode());
+        // Replaced by ExpiredSessionCleaner
+        repository.setCleanupCron(Scheduled.CRON_DISABLED);
+        return repository;
+    }
+
+    @Bean
+    @Primary
+    public NearCachingSessionRepository sessionRepository(JdbcIndexedSessionRepository jdbcSessionRepository,
+                                                             @Value("${session.near-cache.ttl}") Duration ttl,
+                                                             @Value("${session.near-cache.max-size}") long maxSize,
+                                                             @Value("${session.touch-interval}") Duration touchInterval) {
+        return new NearCachingSessionRepository(jdbcSessionRepository, ttl, maxSize, touchInterval);
+    }
+
+    @Bean
+    public ExpiredSessionCleaner expiredSessionCleaner(DataSource dataSource,
+                                                       @Value("${session.cleanup.batch-size}") int batchSize) {
+        return new ExpiredSessionCleaner(new JdbcTemplate(dataSource), batchSize);
+    }
+}
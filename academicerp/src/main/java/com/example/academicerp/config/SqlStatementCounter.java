@@ -0,0 +1,33 @@
+package com.example.academicerp.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #start()}
+ * and {@link #stop()}. Registered as Hibernate's statement inspector, so the cost is one
+ * thread-local increment per statement.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = CURRENT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    public static void start() {
+        CURRENT.set(new long[1]);
+    }
+
+    /** Ends counting on this thread and returns the number of statements since {@link #start()}. */
+    public static long stop() {
+        long[] count = CURRENT.get();
+        CURRENT.remove();
+        return count != null ? count[0] : 0;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.academicerp.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs which threads serve requests. {@code spring.threads.virtual.enabled} only takes effect on
+ * Java 21+, and Spring Boot silently keeps platform threads otherwise.
+ */
+@Slf4j
+@Component
+public class ThreadingModeReporter {
+
+    private final Environment environment;
+
+    public ThreadingModeReporter(Environment environment) {
+        this.environment = environment;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Serving requests on virtual threads");
+        } else if (requested) {
+            log.warn("Virtual threads were requested but need Java 21+ (running {}); using platform threads",
+                    System.getProperty("java.version"));
+        }
+    }
+}
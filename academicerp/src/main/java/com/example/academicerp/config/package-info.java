@@ -0,0 +1,9 @@
+/**
+ * Application-wide configuration.
+ * <p>
+ * Configuration classes that need defaults for their feature load them from a classpath
+ * properties file with {@code @PropertySource}, named in the class's documentation. Those files
+ * have the lowest precedence: {@code application.properties}, profiles and the environment
+ * override any value in them.
+ */
+package com.example.academicerp.config;
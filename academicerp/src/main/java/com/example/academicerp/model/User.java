@@ -1,6 +1,9 @@
 package com.example.academicerp.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "users", uniqueConstraints = {
@@ -18,6 +21,10 @@ public class User {
     @Column(nullable = false, unique = true)
     private String email;
 
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     public User() {
     }
 
@@ -49,4 +56,8 @@ public class User {
     public void setEmail(String email) {
         this.email = email;
     }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
 }
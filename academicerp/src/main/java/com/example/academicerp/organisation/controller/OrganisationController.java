@@ -1,53 +1,238 @@
 package com.example.academicerp.organisation.controller;
 
+import com.example.academicerp.config.ApiMediaTypes;
+import com.example.academicerp.organisation.dto.BulkDeleteRequest;
+import com.example.academicerp.organisation.dto.BulkDeleteResponse;
+import com.example.academicerp.organisation.dto.CursorPageResponse;
+import com.example.academicerp.organisation.dto.ImportReport;
+import com.example.academicerp.organisation.dto.OrganisationChangeFeed;
+import com.example.academicerp.organisation.dto.OrganisationConflict;
+import com.example.academicerp.organisation.dto.OrganisationCursor;
+import com.example.academicerp.organisation.dto.OrganisationFieldSet;
+import com.example.academicerp.organisation.dto.OrganisationFilter;
+import com.example.academicerp.organisation.dto.OrganisationSearchHit;
+import com.example.academicerp.organisation.dto.OrganisationStats;
+import com.example.academicerp.organisation.dto.OrganisationSummary;
+import com.example.academicerp.organisation.dto.PageResponse;
 import com.example.academicerp.organisation.entity.Organisation;
-import com.example.academicerp.organisation.repository.OrganisationRepository;
+import com.example.academicerp.organisation.service.OrganisationChangeFeedService;
+import com.example.academicerp.organisation.service.OrganisationConflictException;
+import com.example.academicerp.organisation.service.OrganisationEtags;
+import com.example.academicerp.organisation.service.OrganisationExportFormat;
+import com.example.academicerp.organisation.service.OrganisationImportService;
+import com.example.academicerp.organisation.service.OrganisationSearchService;
+import com.example.academicerp.organisation.service.OrganisationService;
+import com.example.academicerp.organisation.service.OrganisationStatsService;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 @RestController
-@RequestMapping(value = "/api/organisations", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequestMapping(value = "/api/organisations",
+        produces = {MediaType.APPLICATION_JSON_VALUE, ApiMediaTypes.SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
 @Tag(name = "Organisation", description = "APIs for managing organisations")
 public class OrganisationController {
 
-    private final OrganisationRepository organisationRepository;
+    /** Browsers may keep organisation responses but must revalidate them with the ETag before reuse. */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
 
-    public OrganisationController(OrganisationRepository organisationRepository) {
-        this.organisationRepository = organisationRepository;
+    private final OrganisationService organisationService;
+    private final OrganisationImportService organisationImportService;
+    private final OrganisationSearchService organisationSearchService;
+    private final OrganisationChangeFeedService organisationChangeFeedService;
+    private final OrganisationStatsService organisationStatsService;
+
+    public OrganisationController(OrganisationService organisationService,
+                                  OrganisationImportService organisationImportService,
+                                  OrganisationSearchService organisationSearchService,
+                                  OrganisationChangeFeedService organisationChangeFeedService,
+                                  OrganisationStatsService organisationStatsService) {
+        this.organisationService = organisationService;
+        this.organisationImportService = organisationImportService;
+        this.organisationSearchService = organisationSearchService;
+        this.organisationChangeFeedService = organisationChangeFeedService;
+        this.organisationStatsService = organisationStatsService;
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, ApiMediaTypes.COLUMNAR_JSON_VALUE,
+            ApiMediaTypes.SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @Operation(summary = "List organisations",
+            description = "Retrieves one page of organisation summaries matching the optional filters. "
+                    + "Use page, size (max " + OrganisationService.MAX_PAGE_SIZE + ") and sort=property,asc|desc. "
+                    + "Pass fields=name,address,... to receive only those fields instead; hrContacts is "
+                    + "available this way too.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved a page of organisations"),
+        @ApiResponse(responseCode = "304", description = "Page unchanged since the given ETag / date", content = @Content),
+        @ApiResponse(responseCode = "400", description = "Unsupported sort property or field", content = @Content)
+    })
+    public ResponseEntity<PageResponse<?>> getAll(
+            @ParameterObject OrganisationFilter filter,
+            @ParameterObject @PageableDefault(size = OrganisationService.DEFAULT_PAGE_SIZE, sort = "name",
+                    direction = Sort.Direction.ASC) Pageable pageable,
+            @Parameter(description = "Comma separated fields to return; id is always included", example = "name,city")
+            @RequestParam(value = "fields", required = false) String fields,
+            WebRequest request) {
+        if (fields == null) {
+            Page<OrganisationSummary> page = organisationService.summaries(filter, pageable);
+            return conditionalPage(request, page, OrganisationEtags.ofSummaries(page),
+                    OrganisationEtags.lastModified(page, OrganisationSummary::getUpdatedAt));
+        }
+        Page<Map<String, Object>> page =
+                organisationService.listFields(filter, pageable, OrganisationFieldSet.parse(fields));
+        return conditionalPage(request, page, OrganisationEtags.ofRows(page),
+                OrganisationEtags.lastModified(page, row -> (LocalDateTime) row.get("updatedAt")));
+    }
+
+    @GetMapping(params = "cursor", produces = {MediaType.APPLICATION_JSON_VALUE, ApiMediaTypes.COLUMNAR_JSON_VALUE,
+            ApiMediaTypes.SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @Operation(summary = "List organisations by cursor",
+            description = "Keyset pagination. Pass an empty cursor for the first slice, then the returned "
+                    + "nextCursor. order is id (default) or updatedAt; filters are the same as the paged listing.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved a slice of organisations"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or order", content = @Content)
+    })
+    public CursorPageResponse<Organisation> getAllByCursor(
+            @ParameterObject OrganisationFilter filter,
+            @Parameter(description = "Cursor from the previous slice; empty for the first slice")
+            @RequestParam("cursor") String cursor,
+            @Parameter(description = "Keyset ordering: id or updatedAt")
+            @RequestParam(value = "order", required = false) String order,
+            @Parameter(description = "Slice size (max " + OrganisationService.MAX_PAGE_SIZE + ")")
+            @RequestParam(value = "size", defaultValue = "" + OrganisationService.DEFAULT_PAGE_SIZE) int size) {
+        OrganisationCursor.Order keysetOrder = OrganisationCursor.Order.fromParam(order);
+        return organisationService.scroll(filter, keysetOrder, OrganisationCursor.decode(cursor, keysetOrder), size);
     }
 
-    @GetMapping
-    @Operation(summary = "Get all organisations", description = "Retrieves a list of all organisations")
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved list of organisations")
-    public List<Organisation> getAll() {
-        return organisationRepository.findAll();
+    @GetMapping("/search")
+    @Operation(summary = "Search organisations",
+            description = "Ranked full-text search over name, city, industry type, website and HR contact "
+                    + "names, emails and designations. Terms match as prefixes and tolerate small typos; "
+                    + "every term must match.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Matching organisations, best first"),
+        @ApiResponse(responseCode = "400", description = "Empty query", content = @Content),
+        @ApiResponse(responseCode = "503", description = "Search index is still being built", content = @Content)
+    })
+    public List<OrganisationSearchHit> search(
+            @Parameter(description = "Search terms", required = true, example = "acme pune")
+            @RequestParam("q") String query,
+            @Parameter(description = "Maximum number of hits (max " + OrganisationService.MAX_PAGE_SIZE + ")")
+            @RequestParam(value = "limit", defaultValue = "" + OrganisationSearchService.DEFAULT_LIMIT) int limit) {
+        return organisationSearchService.search(query, limit);
+    }
+
+    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @Operation(summary = "Export organisations",
+            description = "Streams every matching organisation as NDJSON (default) or CSV without buffering the result set")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+        @ApiResponse(responseCode = "400", description = "Unsupported format", content = @Content)
+    })
+    public void export(
+            @ParameterObject OrganisationFilter filter,
+            @Parameter(description = "ndjson or csv")
+            @RequestParam(value = "format", required = false) String format,
+            HttpServletResponse response) throws IOException {
+        OrganisationExportFormat exportFormat = OrganisationExportFormat.fromParam(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Content-Disposition",
+                "attachment; filename=\"organisations." + exportFormat.getExtension() + "\"");
+        try (OutputStream out = new BufferedOutputStream(response.getOutputStream())) {
+            organisationService.export(filter, exportFormat, out);
+        }
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Organisation changes",
+            description = "Incremental sync: the organisations created, updated or deleted after a position, "
+                    + "oldest first, with the current state of each saved one. Start without since to get the "
+                    + "current position, load the full listing, then poll with since=next. Changes are served "
+                    + "a few seconds after they commit.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Changes after since, possibly none"),
+        @ApiResponse(responseCode = "400", description = "Invalid since", content = @Content),
+        @ApiResponse(responseCode = "410", description = "since is older than the retained changes; reload everything",
+                content = @Content)
+    })
+    public OrganisationChangeFeed changes(
+            @Parameter(description = "Position returned as next by the previous request", example = "1042")
+            @RequestParam(value = "since", required = false) Long since,
+            @Parameter(description = "Maximum number of changes (max " + OrganisationChangeFeedService.MAX_LIMIT + ")")
+            @RequestParam(value = "limit", defaultValue = "" + OrganisationChangeFeedService.DEFAULT_LIMIT) int limit) {
+        return organisationChangeFeedService.changesSince(since, limit);
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Organisation statistics",
+            description = "Totals and breakdowns by industry type, country, location and number of HR contacts. "
+                    + "Served from counters kept current on every write; changes made on another node appear "
+                    + "within a few seconds.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Current statistics"),
+        @ApiResponse(responseCode = "503", description = "Statistics are still being counted", content = @Content)
+    })
+    public OrganisationStats stats() {
+        return organisationStatsService.stats();
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get organisation by ID", description = "Retrieves an organisation by its ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved organisation"),
+        @ApiResponse(responseCode = "304", description = "Organisation unchanged since the given ETag / date", content = @Content),
         @ApiResponse(responseCode = "404", description = "Organisation not found", content = @Content)
     })
-    public Organisation getById(
+    public ResponseEntity<Organisation> getById(
             @Parameter(description = "ID of the organisation to be retrieved", required = true)
-            @PathVariable("id") Long id) {
-        return organisationRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Organisation not found"));
+            @PathVariable("id") Long id,
+            WebRequest request) {
+        // Served from the organisation cache, so a 304 usually costs no query and no serialization
+        Organisation org = organisationService.getById(id);
+        String etag = OrganisationEtags.of(org);
+        if (request.checkNotModified(etag, OrganisationEtags.lastModified(org))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(etag)
+                .lastModified(OrganisationEtags.lastModified(org))
+                .body(org);
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
@@ -63,11 +248,44 @@ public class OrganisationController {
                 content = @Content(schema = @Schema(implementation = Organisation.class))
             )
             @Valid @RequestBody Organisation organisation) {
-        if (organisation.getHrContacts() != null) {
-            organisation.getHrContacts().forEach(hr -> hr.setOrganisation(organisation));
-        }
-        Organisation saved = organisationRepository.save(organisation);
-        return ResponseEntity.created(URI.create("/api/organisations/" + saved.getId())).body(saved);
+        Organisation saved = organisationService.create(organisation);
+        return ResponseEntity.created(URI.create("/api/organisations/" + saved.getId()))
+                .eTag(OrganisationEtags.of(saved))
+                .body(saved);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Bulk import organisations",
+            description = "Validates each organisation in the array and inserts the valid ones in batches. "
+                    + "Returns a per-row report; invalid rows do not stop the import.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import processed; see the per-row report"),
+        @ApiResponse(responseCode = "400", description = "Body is not a JSON array of organisations", content = @Content),
+        @ApiResponse(responseCode = "413", description = "Too many rows", content = @Content)
+    })
+    public ImportReport importJson(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                description = "Array of organisations to create",
+                required = true,
+                content = @Content(array = @ArraySchema(schema = @Schema(implementation = Organisation.class)))
+            )
+            InputStream body) throws IOException {
+        return organisationImportService.importJson(body);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Bulk import organisations from CSV",
+            description = "CSV with a header row: name, address, city, state, country, pincode, website, industryType, "
+                    + "isActive and optionally hrFirstName, hrLastName, hrEmail, hrContactNumber, hrDesignation.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import processed; see the per-row report"),
+        @ApiResponse(responseCode = "400", description = "Missing or malformed CSV header", content = @Content),
+        @ApiResponse(responseCode = "413", description = "Too many rows", content = @Content)
+    })
+    public ImportReport importCsv(
+            @Parameter(description = "CSV file", required = true)
+            @RequestParam("file") MultipartFile file) throws IOException {
+        return organisationImportService.importCsv(file.getInputStream());
     }
 
     @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
@@ -75,9 +293,12 @@ public class OrganisationController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Organisation updated successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid input", content = @Content),
-        @ApiResponse(responseCode = "404", description = "Organisation not found", content = @Content)
+        @ApiResponse(responseCode = "404", description = "Organisation not found", content = @Content),
+        @ApiResponse(responseCode = "409", description = "Edited an older version; the body holds the current state",
+                content = @Content(schema = @Schema(implementation = OrganisationConflict.class))),
+        @ApiResponse(responseCode = "412", description = "If-Match does not match the current ETag", content = @Content)
     })
-    public Organisation update(
+    public ResponseEntity<Organisation> update(
             @Parameter(description = "ID of the organisation to be updated", required = true)
             @PathVariable("id") Long id,
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -85,22 +306,36 @@ public class OrganisationController {
                 required = true,
                 content = @Content(schema = @Schema(implementation = Organisation.class))
             )
-            @Valid @RequestBody Organisation updated) {
-        return organisationRepository.findById(id)
-                .map(existing -> {
-                    existing.setName(updated.getName());
-                    existing.setAddress(updated.getAddress());
-                    // Re-associate HR contacts with the existing organisation
-                    existing.getHrContacts().clear();
-                    if (updated.getHrContacts() != null) {
-                        updated.getHrContacts().forEach(hr -> {
-                            hr.setOrganisation(existing);
-                            existing.getHrContacts().add(hr);
-                        });
-                    }
-                    return organisationRepository.save(existing);
-                })
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Organisation not found"));
+            @Valid @RequestBody Organisation updated,
+            @Parameter(description = "ETag from a previous read; the change is rejected with 412 if the organisation has changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return withEtag(id, () -> organisationService.update(id, updated, ifMatch));
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Partially update an organisation",
+            description = "Applies a JSON merge patch. Omitted properties are left unchanged; hrContacts, when present, "
+                    + "is matched to the existing contacts by id.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Organisation updated successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid input", content = @Content),
+        @ApiResponse(responseCode = "404", description = "Organisation not found", content = @Content),
+        @ApiResponse(responseCode = "409", description = "Edited an older version; the body holds the current state",
+                content = @Content(schema = @Schema(implementation = OrganisationConflict.class))),
+        @ApiResponse(responseCode = "412", description = "If-Match does not match the current ETag", content = @Content)
+    })
+    public ResponseEntity<Organisation> patch(
+            @Parameter(description = "ID of the organisation to be updated", required = true)
+            @PathVariable("id") Long id,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                description = "Properties to change",
+                required = true,
+                content = @Content(schema = @Schema(implementation = Organisation.class))
+            )
+            @RequestBody JsonNode patch,
+            @Parameter(description = "ETag from a previous read; the change is rejected with 412 if the organisation has changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return withEtag(id, () -> organisationService.patch(id, patch, ifMatch));
     }
 
     @DeleteMapping("/{id}")
@@ -108,24 +343,78 @@ public class OrganisationController {
     @Operation(summary = "Delete an organisation", description = "Deletes an organisation by its ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "204", description = "Organisation deleted successfully"),
-        @ApiResponse(responseCode = "404", description = "Organisation not found", content = @Content)
+        @ApiResponse(responseCode = "404", description = "Organisation not found", content = @Content),
+        @ApiResponse(responseCode = "409", description = "Changed concurrently; the body holds the current state"),
+        @ApiResponse(responseCode = "412", description = "If-Match does not match the current ETag", content = @Content)
     })
     public void delete(
             @Parameter(description = "ID of the organisation to be deleted", required = true)
-            @PathVariable("id") Long id) {
-        Organisation org = organisationRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Organisation not found"));
-        // Deleting the managed entity ensures JPA cascades orphanRemoval/REMOVE to hrContacts
-        organisationRepository.delete(org);
+            @PathVariable("id") Long id,
+            @Parameter(description = "ETag from a previous read; the change is rejected with 412 if the organisation has changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        try {
+            organisationService.delete(id, ifMatch);
+        } catch (ObjectOptimisticLockingFailureException ex) {
+            // Changed between the If-Match check and the versioned DELETE
+            throw new OrganisationConflictException(organisationService.getLatest(id));
+        }
     }
 
     @DeleteMapping
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    @Operation(summary = "Delete all organisations", description = "Deletes all organisations (use with caution)")
-    @ApiResponse(responseCode = "204", description = "All organisations deleted successfully")
-    public void deleteAll() {
-        // Load entities to ensure JPA cascades deletions to hrContacts
-        List<Organisation> all = organisationRepository.findAll();
-        all.forEach(organisationRepository::delete);
+    @Operation(summary = "Delete all organisations", description = "Deletes all organisations and their HR contacts (use with caution)")
+    @ApiResponse(responseCode = "200", description = "All organisations deleted successfully; returns the deleted row counts")
+    public BulkDeleteResponse deleteAll() {
+        return organisationService.deleteAll();
+    }
+
+    @PostMapping(value = "/bulk-delete", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Delete organisations matching criteria",
+            description = "Deletes organisations (and their HR contacts) matching all given criteria in one transaction")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Matching organisations deleted; returns the deleted row counts"),
+        @ApiResponse(responseCode = "400", description = "No criteria given", content = @Content)
+    })
+    public BulkDeleteResponse deleteMatching(@RequestBody BulkDeleteRequest criteria) {
+        return organisationService.deleteMatching(criteria);
+    }
+
+    private static ResponseEntity<PageResponse<?>> conditionalPage(WebRequest request, Page<?> page,
+                                                                   String etag, long lastModified) {
+        if (request.checkNotModified(etag, lastModified)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(etag)
+                .lastModified(lastModified)
+                .body(PageResponse.of(page));
+    }
+
+    @ExceptionHandler(OrganisationConflictException.class)
+    public ResponseEntity<OrganisationConflict> conflict(OrganisationConflictException ex) {
+        Organisation current = ex.getCurrent();
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .eTag(OrganisationEtags.of(current))
+                .body(new OrganisationConflict(ex.getReason(), current));
+    }
+
+    /**
+     * Runs an edit and answers with the new ETag. An edit that passed the version checks but lost
+     * the race to a concurrent one fails at commit; it gets the same 409 as a stale version.
+     */
+    private ResponseEntity<Organisation> withEtag(Long id, Supplier<Organisation> edit) {
+        try {
+            return withEtag(edit.get());
+        } catch (ObjectOptimisticLockingFailureException ex) {
+            throw new OrganisationConflictException(organisationService.getLatest(id));
+        }
+    }
+
+    private static ResponseEntity<Organisation> withEtag(Organisation org) {
+        return ResponseEntity.ok()
+                .eTag(OrganisationEtags.of(org))
+                .lastModified(OrganisationEtags.lastModified(org))
+                .body(org);
     }
 }
@@ -0,0 +1,51 @@
+package com.example.academicerp.organisation.controller;
+
+import com.example.academicerp.organisation.service.OrganisationEventBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/organisations")
+@Tag(name = "Organisation", description = "APIs for managing organisations")
+public class OrganisationEventsController {
+
+    private final OrganisationEventBroadcaster broadcaster;
+
+    public OrganisationEventsController(OrganisationEventBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream organisation changes",
+            description = "Server-sent events: an \"" + OrganisationEventBroadcaster.CHANGE_EVENT + "\" event with "
+                    + "{id, op, version} for every organisation saved or deleted, a second or two after it commits. "
+                    + "On reconnect the missed changes are replayed from Last-Event-ID; a \""
+                    + OrganisationEventBroadcaster.RESET_EVENT + "\" event means too many were missed and the list "
+                    + "should be reloaded.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Event stream opened"),
+        @ApiResponse(responseCode = "503", description = "Too many open streams on this node; retry later",
+                content = @Content)
+    })
+    public ResponseEntity<SseEmitter> events(
+            @Parameter(description = "Id of the last event received, sent by browsers when reconnecting")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                // Reverse proxies must pass events on as they are written instead of buffering them
+                .header("X-Accel-Buffering", "no")
+                .body(broadcaster.subscribe(lastEventId));
+    }
+}
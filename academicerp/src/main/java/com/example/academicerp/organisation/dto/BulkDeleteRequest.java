@@ -0,0 +1,22 @@
+package com.example.academicerp.organisation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Criteria for a filtered bulk delete. Criteria are combined with AND; at least one is required.
+ */
+@Data
+public class BulkDeleteRequest {
+
+    @Schema(description = "Only organisations with these ids", example = "[1, 2, 3]")
+    private List<Long> ids;
+
+    @Schema(description = "Only organisations of this industry type", example = "Technology")
+    private String industryType;
+
+    @Schema(description = "Only active (true) or inactive (false) organisations", example = "false")
+    private Boolean isActive;
+}
@@ -0,0 +1,12 @@
+package com.example.academicerp.organisation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BulkDeleteResponse {
+
+    private long organisationsDeleted;
+    private long hrContactsDeleted;
+}
@@ -0,0 +1,18 @@
+package com.example.academicerp.organisation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class ImportReport {
+
+    private int total;
+    private int imported;
+    private int failed;
+    private long durationMs;
+    private double rowsPerSecond;
+    private List<ImportRowResult> rows;
+}
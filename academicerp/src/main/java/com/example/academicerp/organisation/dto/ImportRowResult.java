@@ -0,0 +1,20 @@
+package com.example.academicerp.organisation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class ImportRowResult {
+
+    public enum Status { IMPORTED, FAILED }
+
+    /** 1-based position of the row in the uploaded array or CSV body (header excluded). */
+    private int row;
+    private Status status;
+    private Long id;
+    private List<Map<String, String>> errors;
+}
@@ -0,0 +1,39 @@
+package com.example.academicerp.organisation.dto;
+
+import com.example.academicerp.organisation.entity.Organisation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * One row of the organisation change outbox. In the changes feed a saved organisation carries
+ * its current state, which may be newer than {@code version}; it is {@code null} once the
+ * organisation has been deleted, and always for deletions.
+ */
+@Data
+@AllArgsConstructor
+public class OrganisationChange {
+
+    public enum Type {
+        SAVED,
+        DELETED
+    }
+
+    @Schema(description = "Position in the change log; pass the last one seen as since", example = "1042")
+    private long position;
+
+    private long organisationId;
+    private Type type;
+
+    @Schema(description = "Organisation version written by the change; null for deletions")
+    private Long version;
+
+    private Instant changedAt;
+    private Organisation organisation;
+
+    public OrganisationChange withOrganisation(Organisation current) {
+        return new OrganisationChange(position, organisationId, type, version, changedAt, current);
+    }
+}
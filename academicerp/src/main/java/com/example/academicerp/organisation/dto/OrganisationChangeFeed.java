@@ -0,0 +1,25 @@
+package com.example.academicerp.organisation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Changes after a position, oldest first, with only the latest change of each organisation kept.
+ * {@code next} is the position to ask for next; it equals the requested one when nothing new has
+ * settled yet.
+ */
+@Data
+@AllArgsConstructor
+public class OrganisationChangeFeed {
+
+    private List<OrganisationChange> changes;
+
+    @Schema(description = "Pass as since on the next request", example = "1042")
+    private long next;
+
+    @Schema(description = "Whether more changes are ready; fetch again right away instead of waiting")
+    private boolean hasMore;
+}
@@ -0,0 +1,23 @@
+package com.example.academicerp.organisation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/** Data of an organisation event on the event stream: which organisation changed and how. */
+@Data
+@AllArgsConstructor
+public class OrganisationChangeNotice {
+
+    @Schema(description = "Organisation id", example = "42")
+    private long id;
+
+    private OrganisationChange.Type op;
+
+    @Schema(description = "Version written by the change; null for deletions")
+    private Long version;
+
+    public static OrganisationChangeNotice of(OrganisationChange change) {
+        return new OrganisationChangeNotice(change.getOrganisationId(), change.getType(), change.getVersion());
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.academicerp.organisation.dto;
+
+import com.example.academicerp.organisation.entity.Organisation;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/** Body of a 409: why the edit was rejected and the state it has to be merged with. */
+@Data
+@AllArgsConstructor
+public class OrganisationConflict {
+
+    private String message;
+    private Organisation current;
+}
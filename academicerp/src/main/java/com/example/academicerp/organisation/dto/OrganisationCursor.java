@@ -0,0 +1,102 @@
+package com.example.academicerp.organisation.dto;
+
+import com.example.academicerp.organisation.entity.Organisation;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position for organisation listings. A cursor remembers the ordering it was
+ * issued for together with the sort key of the last row returned, so the next slice can seek
+ * straight past it instead of counting an offset.
+ */
+public final class OrganisationCursor {
+
+    public enum Order {
+        /** Ascending by primary key. */
+        ID,
+        /** Ascending by last modification time, ties broken by id. */
+        UPDATED_AT;
+
+        public Sort toSort() {
+            return this == ID
+                    ? Sort.by(Sort.Direction.ASC, "id")
+                    : Sort.by(Sort.Direction.ASC, "updatedAt").and(Sort.by(Sort.Direction.ASC, "id"));
+        }
+
+        public static Order fromParam(String value) {
+            if (!StringUtils.hasText(value) || "id".equalsIgnoreCase(value)) {
+                return ID;
+            }
+            if ("updatedAt".equalsIgnoreCase(value)) {
+                return UPDATED_AT;
+            }
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported cursor order: " + value);
+        }
+    }
+
+    private final Order order;
+    private final LocalDateTime updatedAt;
+    private final Long id;
+
+    private OrganisationCursor(Order order, LocalDateTime updatedAt, Long id) {
+        this.order = order;
+        this.updatedAt = updatedAt;
+        this.id = id;
+    }
+
+    public static OrganisationCursor after(Order order, Organisation last) {
+        return new OrganisationCursor(order, order == Order.UPDATED_AT ? last.getUpdatedAt() : null, last.getId());
+    }
+
+    /**
+     * Parses a cursor previously produced by {@link #encode()}. A blank value means "start from
+     * the beginning" and yields {@code null}.
+     */
+    public static OrganisationCursor decode(String token, Order expectedOrder) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            Order order = Order.valueOf(parts[0]);
+            if (order != expectedOrder) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor was issued for a different order");
+            }
+            if (order == Order.ID && parts.length == 2) {
+                return new OrganisationCursor(order, null, Long.valueOf(parts[1]));
+            }
+            if (order == Order.UPDATED_AT && parts.length == 3) {
+                return new OrganisationCursor(order, LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]));
+            }
+        } catch (IllegalArgumentException | java.time.format.DateTimeParseException ex) {
+            // fall through to the generic rejection below
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+    }
+
+    public String encode() {
+        String raw = order == Order.ID
+                ? order.name() + "|" + id
+                : order.name() + "|" + updatedAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Order getOrder() {
+        return order;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
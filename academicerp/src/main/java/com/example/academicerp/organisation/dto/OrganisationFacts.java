@@ -0,0 +1,18 @@
+package com.example.academicerp.organisation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/** The attributes of one organisation that the statistics count, selected by a constructor projection. */
+@Data
+@AllArgsConstructor
+public class OrganisationFacts {
+
+    private Long id;
+    private String industryType;
+    private String country;
+    private String state;
+    private String city;
+    private Boolean isActive;
+    private Long hrContacts;
+}
@@ -0,0 +1,76 @@
+package com.example.academicerp.organisation.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sparse fieldset for organisation listings, parsed from a {@code fields=name,city} parameter.
+ * Scalar fields and {@code hrContactCount} are selected column by column; only
+ * {@code hrContacts} needs the contact rows themselves.
+ */
+public final class OrganisationFieldSet {
+
+    public static final String ID = "id";
+    public static final String HR_CONTACT_COUNT = "hrContactCount";
+    public static final String HR_CONTACTS = "hrContacts";
+
+    /** Organisation attributes that map one-to-one onto a column. */
+    public static final Set<String> COLUMNS = Set.of(
+            ID, "name", "address", "city", "state", "country", "pincode", "website", "industryType",
+            "isActive", "createdAt", "updatedAt");
+
+    private final List<String> fields;
+
+    private OrganisationFieldSet(List<String> fields) {
+        this.fields = List.copyOf(fields);
+    }
+
+    /** Parses a comma separated list; {@code id} is always included and listed first. */
+    public static OrganisationFieldSet parse(String value) {
+        Set<String> fields = new LinkedHashSet<>();
+        fields.add(ID);
+        if (StringUtils.hasText(value)) {
+            for (String field : value.split(",")) {
+                String name = field.trim();
+                if (name.isEmpty()) {
+                    continue;
+                }
+                if (!COLUMNS.contains(name) && !HR_CONTACT_COUNT.equals(name) && !HR_CONTACTS.equals(name)) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported field: " + name);
+                }
+                fields.add(name);
+            }
+        }
+        return new OrganisationFieldSet(new ArrayList<>(fields));
+    }
+
+    public List<String> getFields() {
+        return fields;
+    }
+
+    /** Whether the fields can be selected as columns, without loading entities and contacts. */
+    public boolean isProjectable() {
+        return !fields.contains(HR_CONTACTS);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof OrganisationFieldSet other && fields.equals(other.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return fields.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return String.join(",", fields);
+    }
+}
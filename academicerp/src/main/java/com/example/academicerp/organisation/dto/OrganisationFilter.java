@@ -0,0 +1,33 @@
+package com.example.academicerp.organisation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * Query-string filters accepted by the organisation listing. Every field is optional;
+ * only the non-blank ones are turned into predicates.
+ */
+@Data
+public class OrganisationFilter {
+
+    @Schema(description = "Case-insensitive substring match on the organisation name", example = "acme")
+    private String name;
+
+    @Schema(description = "Prefix match on the organisation name (index friendly)", example = "Ac")
+    private String namePrefix;
+
+    @Schema(description = "Exact match on city", example = "San Francisco")
+    private String city;
+
+    @Schema(description = "Exact match on state", example = "California")
+    private String state;
+
+    @Schema(description = "Exact match on country", example = "United States")
+    private String country;
+
+    @Schema(description = "Exact match on industry type", example = "Technology")
+    private String industryType;
+
+    @Schema(description = "Only active (true) or inactive (false) organisations", example = "true")
+    private Boolean isActive;
+}
@@ -0,0 +1,16 @@
+package com.example.academicerp.organisation.dto;
+
+import com.example.academicerp.organisation.entity.Organisation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class OrganisationSearchHit {
+
+    @Schema(description = "Relevance score; only meaningful relative to the other hits of the same query", example = "7.42")
+    private float score;
+
+    private Organisation organisation;
+}
@@ -0,0 +1,49 @@
+package com.example.academicerp.organisation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dashboard counts over all organisations. Breakdowns are ordered by count, largest first;
+ * organisations without a value are counted under {@value #UNSPECIFIED}.
+ */
+@Data
+@AllArgsConstructor
+public class OrganisationStats {
+
+    public static final String UNSPECIFIED = "unspecified";
+
+    private long organisations;
+    private long activeOrganisations;
+    private long inactiveOrganisations;
+    private long hrContacts;
+
+    @Schema(example = "{\"Technology\": 42, \"Finance\": 17}")
+    private Map<String, Long> byIndustryType;
+
+    @Schema(example = "{\"India\": 55, \"unspecified\": 4}")
+    private Map<String, Long> byCountry;
+
+    private List<LocationCount> byLocation;
+
+    @Schema(description = "Number of organisations by how many HR contacts they have", example = "{\"0\": 3, \"1\": 40, \"2\": 16}")
+    private Map<Long, Long> byHrContactCount;
+
+    @Schema(description = "When the counters were last recounted from the database; writes since then are applied as they happen")
+    private Instant reconciledAt;
+
+    @Data
+    @AllArgsConstructor
+    public static class LocationCount {
+
+        private String country;
+        private String state;
+        private String city;
+        private long organisations;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.academicerp.organisation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * List row for organisations: the columns the listing shows plus the number of HR contacts,
+ * selected directly by a constructor projection without loading entities or contacts.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganisationSummary {
+
+    @Schema(example = "1")
+    private Long id;
+
+    @Schema(example = "Acme Corporation")
+    private String name;
+
+    @Schema(example = "Pune")
+    private String city;
+
+    @Schema(example = "Technology")
+    private String industryType;
+
+    @Schema(example = "true")
+    private Boolean isActive;
+
+    @Schema(description = "Number of HR contacts", example = "2")
+    private Long hrContactCount;
+
+    @Schema(description = "Last modification time; also drives the list ETag")
+    private LocalDateTime updatedAt;
+}
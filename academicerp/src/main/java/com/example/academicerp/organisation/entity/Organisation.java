@@ -2,6 +2,7 @@ package com.example.academicerp.organisation.entity;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
@@ -17,8 +18,10 @@ import java.time.LocalDateTime;
 @Schema(description = "Represents an organisation in the system")
 public class Organisation {
 
+    // Pooled sequence (a one-row table on MySQL) instead of IDENTITY so inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "organisation_id_gen")
+    @SequenceGenerator(name = "organisation_id_gen", sequenceName = "organisations_seq", allocationSize = 50)
     @Schema(description = "The unique identifier of the organisation", example = "1")
     private Long id;
 
@@ -67,11 +70,19 @@ public class Organisation {
     @Schema(description = "The timestamp when the organisation was last updated", example = "2023-01-01T12:00:00")
     private LocalDateTime updatedAt;
 
+    // Checked on every UPDATE: an edit based on an older version fails instead of overwriting
+    @Version
+    @Column(nullable = false)
+    @Schema(description = "Version the client read; send it back unchanged so a concurrent edit is detected (409)", example = "3")
+    private Long version;
+
     @Column(name = "is_active")
     @Schema(description = "Indicates if the organisation is currently active", example = "true")
     private Boolean isActive = true;
 
+    // Loaded for a whole page at once (IN-list) instead of one query per organisation
     @OneToMany(mappedBy = "organisation", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     @JsonManagedReference
     @Valid
     @Schema(description = "List of HR contacts associated with the organisation")
@@ -173,6 +184,14 @@ public class Organisation {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public Boolean getIsActive() {
         return isActive;
     }
@@ -17,7 +17,8 @@ import jakarta.validation.constraints.Size;
 public class OrganisationHr {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "organisation_hr_id_gen")
+    @SequenceGenerator(name = "organisation_hr_id_gen", sequenceName = "organisation_hr_seq", allocationSize = 50)
     @Schema(description = "The unique identifier of the HR contact", example = "1")
     private Long id;
 
@@ -55,6 +56,11 @@ public class OrganisationHr {
     @Schema(description = "The job designation of the HR contact", example = "HR Manager")
     private String designation;
 
+    @Version
+    @Column(nullable = false)
+    @Schema(description = "Version the client read; send it back unchanged so a concurrent edit is detected (409)", example = "0")
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "organisation_id", nullable = false)
     @JsonBackReference
@@ -131,6 +137,14 @@ public class OrganisationHr {
         this.designation = designation;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public Organisation getOrganisation() {
         return organisation;
     }
@@ -0,0 +1,145 @@
+package com.example.academicerp.organisation.repository;
+
+import com.example.academicerp.organisation.dto.OrganisationChange;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The organisation_changes outbox. Plain JDBC: rows are appended and drained in batches and are
+ * never loaded as entities. Positions are the AUTO_INCREMENT ids, so they follow insert order,
+ * but a transaction that commits late can make a lower position visible after higher ones.
+ */
+@Repository
+public class OrganisationChangeRepository {
+
+    private static final String COLUMNS = "id, organisation_id, change_type, version, changed_at";
+
+    private static final String INSERT =
+            "INSERT INTO organisation_changes (organisation_id, change_type, version, changed_at) "
+                    + "VALUES (:organisationId, :type, :version, :changedAt)";
+    private static final String SELECT_AFTER =
+            "SELECT " + COLUMNS + " FROM organisation_changes WHERE id > :after ORDER BY id LIMIT :limit";
+    private static final String LOCK_UNPUBLISHED =
+            "SELECT " + COLUMNS + " FROM organisation_changes WHERE published_at IS NULL ORDER BY id LIMIT :limit FOR UPDATE";
+    private static final String MARK_PUBLISHED =
+            "UPDATE organisation_changes SET published_at = :publishedAt WHERE id IN (:ids)";
+    private static final String SELECT_PURGEABLE =
+            "SELECT id FROM organisation_changes WHERE published_at < :cutoff AND id < :newest "
+                    + "ORDER BY published_at, id LIMIT :limit";
+    private static final String DELETE_BY_IDS = "DELETE FROM organisation_changes WHERE id IN (:ids)";
+
+    private static final RowMapper<OrganisationChange> ROW_MAPPER = (rs, rowNum) -> new OrganisationChange(
+            rs.getLong("id"),
+            rs.getLong("organisation_id"),
+            OrganisationChange.Type.valueOf(rs.getString("change_type")),
+            rs.getObject("version", Long.class),
+            rs.getTimestamp("changed_at").toInstant(),
+            null);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public OrganisationChangeRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** Inserts the changes in one batch; their positions are ignored and assigned by the database. */
+    public void append(List<OrganisationChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = changes.stream()
+                .map(change -> new MapSqlParameterSource()
+                        .addValue("organisationId", change.getOrganisationId())
+                        .addValue("type", change.getType().name())
+                        .addValue("version", change.getVersion())
+                        .addValue("changedAt", Timestamp.from(change.getChangedAt())))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT, batch);
+    }
+
+    /** Up to {@code limit} changes after {@code position}, in position order. */
+    public List<OrganisationChange> findAfter(long position, int limit) {
+        return jdbcTemplate.query(SELECT_AFTER,
+                new MapSqlParameterSource("after", position).addValue("limit", limit), ROW_MAPPER);
+    }
+
+    /**
+     * Like {@link #findAfter}, but stops at the first change made after {@code settledBefore}: a
+     * transaction still open when a later one commits shows up late at a lower position, and a
+     * reader already past it would never see it. Transactions are assumed to commit within the
+     * settle time.
+     */
+    public List<OrganisationChange> findSettledAfter(long position, Instant settledBefore, int limit) {
+        List<OrganisationChange> changes = findAfter(position, limit);
+        for (int i = 0; i < changes.size(); i++) {
+            if (changes.get(i).getChangedAt().isAfter(settledBefore)) {
+                return changes.subList(0, i);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * The oldest {@code limit} unpublished changes, locked until the transaction ends so that
+     * publishers on other nodes wait instead of sending them again.
+     */
+    public List<OrganisationChange> lockUnpublished(int limit) {
+        return jdbcTemplate.query(LOCK_UNPUBLISHED, new MapSqlParameterSource("limit", limit), ROW_MAPPER);
+    }
+
+    public int markPublished(List<Long> positions, Instant publishedAt) {
+        return jdbcTemplate.update(MARK_PUBLISHED,
+                new MapSqlParameterSource("ids", positions).addValue("publishedAt", Timestamp.from(publishedAt)));
+    }
+
+    /** Oldest retained position, or {@code null} when the outbox is empty. */
+    public Long oldestPosition() {
+        return jdbcTemplate.getJdbcTemplate().queryForObject("SELECT MIN(id) FROM organisation_changes", Long.class);
+    }
+
+    /** Newest position, or {@code null} when the outbox is empty. */
+    public Long latestPosition() {
+        return jdbcTemplate.getJdbcTemplate().queryForObject("SELECT MAX(id) FROM organisation_changes", Long.class);
+    }
+
+    /**
+     * Newest position a reader can start after without missing a change, or {@code null} when
+     * no change is settled: positions follow insert order, so every change at or below the newest
+     * one made before {@code settledBefore} is committed. See {@link #findSettledAfter}.
+     */
+    public Long latestSettledPosition(Instant settledBefore) {
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM organisation_changes WHERE changed_at < :settledBefore",
+                new MapSqlParameterSource("settledBefore", Timestamp.from(settledBefore)), Long.class);
+    }
+
+    /**
+     * Deletes changes published before {@code cutoff}, one batch per statement; returns how
+     * many. The newest change is always kept: MySQL before 8.0 restarts AUTO_INCREMENT at the
+     * highest remaining id after a restart, and an empty table would hand out positions again.
+     */
+    public int purgePublishedBefore(Instant cutoff, int batchSize) {
+        Long newest = latestPosition();
+        if (newest == null) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("cutoff", Timestamp.from(cutoff))
+                .addValue("newest", newest)
+                .addValue("limit", batchSize);
+        int total = 0;
+        List<Long> ids;
+        do {
+            ids = jdbcTemplate.queryForList(SELECT_PURGEABLE, params, Long.class);
+            if (!ids.isEmpty()) {
+                total += jdbcTemplate.update(DELETE_BY_IDS, new MapSqlParameterSource("ids", ids));
+            }
+        } while (ids.size() == batchSize);
+        return total;
+    }
+}
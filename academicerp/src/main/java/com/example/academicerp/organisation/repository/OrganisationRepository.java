@@ -1,7 +1,40 @@
 package com.example.academicerp.organisation.repository;
 
+import com.example.academicerp.organisation.dto.OrganisationFacts;
 import com.example.academicerp.organisation.entity.Organisation;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface OrganisationRepository extends JpaRepository<Organisation, Long> {
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface OrganisationRepository extends JpaRepository<Organisation, Long>, JpaSpecificationExecutor<Organisation>,
+        OrganisationRepositoryCustom {
+
+    @EntityGraph(attributePaths = "hrContacts")
+    Optional<Organisation> findWithHrContactsById(Long id);
+
+    @EntityGraph(attributePaths = "hrContacts")
+    List<Organisation> findWithHrContactsByIdIn(Collection<Long> ids);
+
+    String SELECT_FACTS = "select new com.example.academicerp.organisation.dto.OrganisationFacts("
+            + "o.id, o.industryType, o.country, o.state, o.city, o.isActive, count(h)) "
+            + "from Organisation o left join o.hrContacts h ";
+    String GROUP_FACTS = " group by o.id, o.industryType, o.country, o.state, o.city, o.isActive";
+
+    /** The counted attributes of every organisation, read through a cursor; callers must close the stream. */
+    @Query(SELECT_FACTS + GROUP_FACTS)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<OrganisationFacts> streamFacts();
+
+    @Query(SELECT_FACTS + "where o.id in :ids" + GROUP_FACTS)
+    List<OrganisationFacts> findFactsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,51 @@
+package com.example.academicerp.organisation.repository;
+
+import com.example.academicerp.organisation.dto.BulkDeleteRequest;
+import com.example.academicerp.organisation.dto.BulkDeleteResponse;
+import com.example.academicerp.organisation.dto.OrganisationFieldSet;
+import com.example.academicerp.organisation.dto.OrganisationSummary;
+import com.example.academicerp.organisation.entity.Organisation;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public interface OrganisationRepositoryCustom {
+
+    /**
+     * Streams every matching organisation in id order straight from the JDBC cursor. Must be
+     * consumed (and closed) inside a transaction. On MySQL the driver only honours the fetch
+     * size when the connection URL sets {@code useCursorFetch=true}.
+     */
+    Stream<Organisation> streamAll(Specification<Organisation> spec, int fetchSize);
+
+    /**
+     * One page of {@link OrganisationSummary} rows selected by constructor projection; the
+     * contact count is a correlated subquery, so no entity or contact row is loaded.
+     */
+    Page<OrganisationSummary> findSummaries(Specification<Organisation> spec, Pageable pageable);
+
+    /**
+     * One page of rows holding only the given fields, keyed by field name in the order given.
+     * The field set must be {@linkplain OrganisationFieldSet#isProjectable() projectable}.
+     */
+    Page<Map<String, Object>> findFields(Specification<Organisation> spec, OrganisationFieldSet fields,
+                                         Pageable pageable);
+
+    /**
+     * Ids of the first {@code limit} organisations matching {@code criteria} in id order, read
+     * with {@code FOR UPDATE}, so they stay matched until {@link #deleteByIds} in the same
+     * transaction deletes them.
+     */
+    List<Long> lockIdsMatching(BulkDeleteRequest criteria, int limit);
+
+    /**
+     * Set-based delete of the given organisations and, first, their HR contacts, mirroring the
+     * orphanRemoval cascade without loading any entity. Clears the persistence context. Must run
+     * inside a transaction.
+     */
+    BulkDeleteResponse deleteByIds(List<Long> ids);
+}
@@ -0,0 +1,183 @@
+package com.example.academicerp.organisation.repository;
+
+import com.example.academicerp.organisation.dto.BulkDeleteRequest;
+import com.example.academicerp.organisation.dto.BulkDeleteResponse;
+import com.example.academicerp.organisation.dto.OrganisationFieldSet;
+import com.example.academicerp.organisation.dto.OrganisationSummary;
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.entity.OrganisationHr;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+class OrganisationRepositoryImpl implements OrganisationRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Organisation> streamAll(Specification<Organisation> spec, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Organisation> query = cb.createQuery(Organisation.class);
+        Root<Organisation> root = query.from(Organisation.class);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public Page<OrganisationSummary> findSummaries(Specification<Organisation> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<OrganisationSummary> query = cb.createQuery(OrganisationSummary.class);
+        Root<Organisation> root = query.from(Organisation.class);
+        query.select(cb.construct(OrganisationSummary.class,
+                root.get("id"), root.get("name"), root.get("city"), root.get("industryType"),
+                root.get("isActive"), hrContactCount(query, root, cb), root.get("updatedAt")));
+        restrict(query, root, cb, spec, pageable);
+
+        List<OrganisationSummary> content = page(entityManager.createQuery(query), pageable).getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Page<Map<String, Object>> findFields(Specification<Organisation> spec, OrganisationFieldSet fields,
+                                                Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Organisation> root = query.from(Organisation.class);
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : fields.getFields()) {
+            Expression<?> expression = OrganisationFieldSet.HR_CONTACT_COUNT.equals(field)
+                    ? hrContactCount(query, root, cb)
+                    : root.get(field);
+            selections.add(expression.alias(field));
+        }
+        query.multiselect(selections);
+        restrict(query, root, cb, spec, pageable);
+
+        List<Map<String, Object>> content = new ArrayList<>();
+        for (Tuple tuple : page(entityManager.createQuery(query), pageable).getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : fields.getFields()) {
+                row.put(field, tuple.get(field));
+            }
+            content.add(row);
+        }
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<Long> lockIdsMatching(BulkDeleteRequest criteria, int limit) {
+        TypedQuery<Long> query = entityManager
+                .createQuery("select o.id from Organisation o" + where(criteria) + " order by o.id", Long.class)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setMaxResults(limit);
+        bind(query, criteria);
+        return query.getResultList();
+    }
+
+    @Override
+    public BulkDeleteResponse deleteByIds(List<Long> ids) {
+        entityManager.flush();
+        int hrContactsDeleted = entityManager
+                .createQuery("delete from OrganisationHr hr where hr.organisation.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        int organisationsDeleted = entityManager
+                .createQuery("delete from Organisation o where o.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        entityManager.clear();
+        return new BulkDeleteResponse(organisationsDeleted, hrContactsDeleted);
+    }
+
+    private static Subquery<Long> hrContactCount(CriteriaQuery<?> query, Root<Organisation> root, CriteriaBuilder cb) {
+        Subquery<Long> count = query.subquery(Long.class);
+        Root<OrganisationHr> hr = count.from(OrganisationHr.class);
+        return count.select(cb.count(hr)).where(cb.equal(hr.get("organisation"), root));
+    }
+
+    private static void restrict(CriteriaQuery<?> query, Root<Organisation> root, CriteriaBuilder cb,
+                                 Specification<Organisation> spec, Pageable pageable) {
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+    }
+
+    private static <T> TypedQuery<T> page(TypedQuery<T> query, Pageable pageable) {
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return query;
+    }
+
+    private long count(Specification<Organisation> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Organisation> root = query.from(Organisation.class);
+        query.select(cb.count(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static String where(BulkDeleteRequest criteria) {
+        List<String> conditions = new ArrayList<>();
+        if (criteria.getIds() != null && !criteria.getIds().isEmpty()) {
+            conditions.add("o.id in :ids");
+        }
+        if (StringUtils.hasText(criteria.getIndustryType())) {
+            conditions.add("o.industryType = :industryType");
+        }
+        if (criteria.getIsActive() != null) {
+            conditions.add("o.isActive = :isActive");
+        }
+        return conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+    }
+
+    private static void bind(Query query, BulkDeleteRequest criteria) {
+        if (criteria.getIds() != null && !criteria.getIds().isEmpty()) {
+            query.setParameter("ids", criteria.getIds());
+        }
+        if (StringUtils.hasText(criteria.getIndustryType())) {
+            query.setParameter("industryType", criteria.getIndustryType().trim());
+        }
+        if (criteria.getIsActive() != null) {
+            query.setParameter("isActive", criteria.getIsActive());
+        }
+    }
+}
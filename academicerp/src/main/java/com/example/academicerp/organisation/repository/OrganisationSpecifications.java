@@ -0,0 +1,79 @@
+package com.example.academicerp.organisation.repository;
+
+import com.example.academicerp.organisation.dto.OrganisationCursor;
+import com.example.academicerp.organisation.dto.OrganisationFilter;
+import com.example.academicerp.organisation.entity.Organisation;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class OrganisationSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private OrganisationSpecifications() {
+    }
+
+    public static Specification<Organisation> matching(OrganisationFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter == null) {
+                return cb.and();
+            }
+            if (StringUtils.hasText(filter.getName())) {
+                predicates.add(cb.like(cb.lower(root.get("name")),
+                        "%" + escapeLike(filter.getName().trim().toLowerCase()) + "%", LIKE_ESCAPE));
+            }
+            if (StringUtils.hasText(filter.getNamePrefix())) {
+                // Left-anchored and not wrapped in lower() so an index on name can be used
+                predicates.add(cb.like(root.get("name"),
+                        escapeLike(filter.getNamePrefix().trim()) + "%", LIKE_ESCAPE));
+            }
+            if (StringUtils.hasText(filter.getCity())) {
+                predicates.add(cb.equal(root.get("city"), filter.getCity().trim()));
+            }
+            if (StringUtils.hasText(filter.getState())) {
+                predicates.add(cb.equal(root.get("state"), filter.getState().trim()));
+            }
+            if (StringUtils.hasText(filter.getCountry())) {
+                predicates.add(cb.equal(root.get("country"), filter.getCountry().trim()));
+            }
+            if (StringUtils.hasText(filter.getIndustryType())) {
+                predicates.add(cb.equal(root.get("industryType"), filter.getIndustryType().trim()));
+            }
+            if (filter.getIsActive() != null) {
+                predicates.add(cb.equal(root.get("isActive"), filter.getIsActive()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Seek predicate for keyset pagination: rows strictly after the cursor position in the
+     * cursor's ordering. A {@code null} cursor matches everything.
+     */
+    public static Specification<Organisation> after(OrganisationCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return cb.and();
+            }
+            if (cursor.getOrder() == OrganisationCursor.Order.ID) {
+                return cb.greaterThan(root.get("id"), cursor.getId());
+            }
+            return cb.or(
+                    cb.greaterThan(root.get("updatedAt"), cursor.getUpdatedAt()),
+                    cb.and(cb.equal(root.get("updatedAt"), cursor.getUpdatedAt()),
+                            cb.greaterThan(root.get("id"), cursor.getId())));
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.dto.OrganisationChange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/** Keeps published changes in memory for local runs and tests; select it with organisation.changes.sink=memory. */
+public class InMemoryOrganisationChangeSink implements OrganisationChangeSink {
+
+    private final List<OrganisationChange> received = new ArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Override
+    public void publish(List<OrganisationChange> changes) {
+        lock.lock();
+        try {
+            received.addAll(changes);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Everything received so far, in delivery order. */
+    public List<OrganisationChange> received() {
+        lock.lock();
+        try {
+            return List.copyOf(received);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            received.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
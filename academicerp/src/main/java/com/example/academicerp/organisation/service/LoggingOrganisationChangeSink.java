@@ -0,0 +1,19 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.dto.OrganisationChange;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/** Default sink until a message broker is wired in: logs each batch at debug level. */
+@Slf4j
+public class LoggingOrganisationChangeSink implements OrganisationChangeSink {
+
+    @Override
+    public void publish(List<OrganisationChange> changes) {
+        if (log.isDebugEnabled()) {
+            log.debug("Organisation changes {}..{}: {}", changes.get(0).getPosition(),
+                    changes.get(changes.size() - 1).getPosition(), changes);
+        }
+    }
+}
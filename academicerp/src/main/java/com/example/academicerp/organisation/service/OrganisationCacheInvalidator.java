@@ -0,0 +1,75 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.config.CacheConfig;
+import com.example.academicerp.organisation.dto.OrganisationChange;
+import com.example.academicerp.organisation.repository.OrganisationChangeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Evicts organisation cache entries for changes committed on any node, tailed from the change
+ * outbox. The writing node already evicted them on commit; this catches the other nodes, and a
+ * reader that loaded a row before the commit and cached it after that eviction. Cached
+ * organisations are therefore stale for at most the settle time plus the poll interval.
+ */
+@Slf4j
+@Component
+public class OrganisationCacheInvalidator {
+
+    private final OrganisationChangeRepository changeRepository;
+    private final Cache organisations;
+    private final Cache pages;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Value("${organisation.changes.settle-time}")
+    private Duration settleTime;
+
+    @Value("${organisation.cache.invalidation-batch-size:500}")
+    private int batchSize = 500;
+
+    /** Last outbox position evicted; -1 until the first poll. Guarded by lock. */
+    private long position = -1;
+
+    public OrganisationCacheInvalidator(OrganisationChangeRepository changeRepository, CacheManager cacheManager) {
+        this.changeRepository = changeRepository;
+        this.organisations = Objects.requireNonNull(cacheManager.getCache(CacheConfig.ORGANISATIONS));
+        this.pages = Objects.requireNonNull(cacheManager.getCache(CacheConfig.ORGANISATION_PAGES));
+    }
+
+    @Scheduled(fixedDelayString = "${organisation.cache.invalidation-interval:PT1S}")
+    public void poll() {
+        lock.lock();
+        try {
+            Instant settledBefore = Instant.now().minus(settleTime);
+            if (position < 0) {
+                // Nothing is cached from before startup, so earlier changes do not matter
+                Long settled = changeRepository.latestSettledPosition(settledBefore);
+                position = settled == null ? 0 : settled;
+            }
+            List<OrganisationChange> changes;
+            do {
+                changes = changeRepository.findSettledAfter(position, settledBefore, batchSize);
+                if (!changes.isEmpty()) {
+                    changes.forEach(change -> organisations.evict(change.getOrganisationId()));
+                    pages.clear();
+                    position = changes.get(changes.size() - 1).getPosition();
+                }
+            } while (changes.size() == batchSize);
+        } catch (DataAccessException e) {
+            log.warn("Reading organisation changes for cache invalidation failed: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+}
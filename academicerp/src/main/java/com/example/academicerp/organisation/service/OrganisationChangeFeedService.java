@@ -0,0 +1,97 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.dto.OrganisationChange;
+import com.example.academicerp.organisation.dto.OrganisationChangeFeed;
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.repository.OrganisationChangeRepository;
+import com.example.academicerp.organisation.repository.OrganisationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serves the change outbox as an incremental feed, so consumers sync in proportion to what
+ * changed rather than to the size of the table.
+ * A change is only served once it is older than {@code settleTime}; see
+ * {@link OrganisationChangeRepository#findSettledAfter}.
+ */
+@Service
+public class OrganisationChangeFeedService {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 500;
+
+    private final OrganisationChangeRepository changeRepository;
+    private final OrganisationRepository organisationRepository;
+
+    @Value("${organisation.changes.settle-time}")
+    private Duration settleTime;
+
+    public OrganisationChangeFeedService(OrganisationChangeRepository changeRepository,
+                                         OrganisationRepository organisationRepository) {
+        this.changeRepository = changeRepository;
+        this.organisationRepository = organisationRepository;
+    }
+
+    /**
+     * Changes after {@code since}, with the current state of each saved organisation loaded in
+     * one query. Without {@code since} no changes are returned, only the position to start from.
+     * A position older than the retained changes is rejected with 410; the consumer has to
+     * resynchronise from the full listing.
+     */
+    @Transactional(readOnly = true)
+    public OrganisationChangeFeed changesSince(Long since, int limit) {
+        if (since == null) {
+            Long latest = changeRepository.latestPosition();
+            return new OrganisationChangeFeed(List.of(), latest == null ? 0 : latest, false);
+        }
+        if (since < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "since must not be negative");
+        }
+        Long oldest = changeRepository.oldestPosition();
+        if (oldest != null && since < oldest - 1) {
+            throw new ResponseStatusException(HttpStatus.GONE,
+                    "Changes after " + since + " are no longer retained; reload the organisations and start again");
+        }
+
+        int max = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        List<OrganisationChange> ready =
+                changeRepository.findSettledAfter(since, Instant.now().minus(settleTime), max + 1);
+        boolean hasMore = ready.size() > max;
+        List<OrganisationChange> page = hasMore ? ready.subList(0, max) : ready;
+        if (page.isEmpty()) {
+            return new OrganisationChangeFeed(List.of(), since, false);
+        }
+        return new OrganisationChangeFeed(withCurrentState(page), page.get(page.size() - 1).getPosition(), hasMore);
+    }
+
+    /** Keeps the latest change of each organisation and attaches the organisation as it is now. */
+    private List<OrganisationChange> withCurrentState(List<OrganisationChange> changes) {
+        Map<Long, OrganisationChange> latest = new LinkedHashMap<>();
+        for (OrganisationChange change : changes) {
+            // Re-inserting moves the organisation to the position of its latest change
+            latest.remove(change.getOrganisationId());
+            latest.put(change.getOrganisationId(), change);
+        }
+        List<Long> saved = latest.values().stream()
+                .filter(change -> change.getType() == OrganisationChange.Type.SAVED)
+                .map(OrganisationChange::getOrganisationId)
+                .toList();
+        Map<Long, Organisation> current = saved.isEmpty() ? Map.of()
+                : organisationRepository.findWithHrContactsByIdIn(saved).stream()
+                        .collect(Collectors.toMap(Organisation::getId, Function.identity()));
+        return latest.values().stream()
+                .map(change -> change.withOrganisation(current.get(change.getOrganisationId())))
+                .toList();
+    }
+}
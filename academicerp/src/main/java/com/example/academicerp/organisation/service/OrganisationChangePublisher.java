@@ -0,0 +1,89 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.dto.OrganisationChange;
+import com.example.academicerp.organisation.repository.OrganisationChangeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Drains the change outbox into the {@link OrganisationChangeSink} in batches. Each batch is
+ * locked, delivered and marked published in one transaction, so nodes publishing at the same
+ * time take turns and a batch the sink rejects stays pending. Delivery is at least once: a batch
+ * can be delivered again if marking it fails after the sink accepted it.
+ */
+@Slf4j
+@Component
+public class OrganisationChangePublisher {
+
+    private final OrganisationChangeRepository changeRepository;
+    private final OrganisationChangeSink sink;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${organisation.changes.publish-batch-size}")
+    private int batchSize;
+
+    @Value("${organisation.changes.retention}")
+    private Duration retention;
+
+    @Value("${organisation.changes.purge-batch-size}")
+    private int purgeBatchSize;
+
+    public OrganisationChangePublisher(OrganisationChangeRepository changeRepository, OrganisationChangeSink sink,
+                                       PlatformTransactionManager transactionManager) {
+        this.changeRepository = changeRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${organisation.changes.publish-interval}",
+            initialDelayString = "${organisation.changes.publish-interval}")
+    public void publish() {
+        try {
+            publishPending();
+        } catch (RuntimeException e) {
+            // Still pending; the next run delivers it
+            log.warn("Publishing organisation changes failed: {}", e.getMessage());
+        }
+    }
+
+    /** Delivers every pending change, one batch per transaction; returns how many. */
+    public int publishPending() {
+        int total = 0;
+        int published;
+        do {
+            published = transactionTemplate.execute(status -> {
+                List<OrganisationChange> batch = changeRepository.lockUnpublished(batchSize);
+                if (!batch.isEmpty()) {
+                    sink.publish(batch);
+                    changeRepository.markPublished(batch.stream().map(OrganisationChange::getPosition).toList(),
+                            Instant.now());
+                }
+                return batch.size();
+            });
+            total += published;
+        } while (published == batchSize);
+        return total;
+    }
+
+    @Scheduled(fixedDelayString = "${organisation.changes.purge-interval}",
+            initialDelayString = "${organisation.changes.purge-interval}")
+    public void purge() {
+        try {
+            int deleted = changeRepository.purgePublishedBefore(Instant.now().minus(retention), purgeBatchSize);
+            if (deleted > 0) {
+                log.debug("Purged {} published organisation changes", deleted);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Organisation change purge failed: {}", e.getMessage());
+        }
+    }
+}
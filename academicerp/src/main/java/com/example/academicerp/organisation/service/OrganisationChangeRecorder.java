@@ -0,0 +1,43 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.dto.OrganisationChange;
+import com.example.academicerp.organisation.repository.OrganisationChangeRepository;
+import com.example.academicerp.organisation.repository.OrganisationRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Appends every {@link OrganisationsChangedEvent} to the change outbox just before the writing
+ * transaction commits, so a change is recorded if and only if it is committed.
+ */
+@Component
+public class OrganisationChangeRecorder {
+
+    private final OrganisationChangeRepository changeRepository;
+    private final OrganisationRepository organisationRepository;
+
+    public OrganisationChangeRecorder(OrganisationChangeRepository changeRepository,
+                                      OrganisationRepository organisationRepository) {
+        this.changeRepository = changeRepository;
+        this.organisationRepository = organisationRepository;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onOrganisationsChanged(OrganisationsChangedEvent event) {
+        // Versions are only incremented when the pending updates are flushed. Flushing through the
+        // repository translates a stale version into the same exception the commit would throw
+        organisationRepository.flush();
+        Instant now = Instant.now();
+        List<OrganisationChange> changes = new ArrayList<>();
+        event.saved().forEach(org -> changes.add(new OrganisationChange(
+                0, org.getId(), OrganisationChange.Type.SAVED, org.getVersion(), now, null)));
+        event.deletedIds().forEach(id -> changes.add(new OrganisationChange(
+                0, id, OrganisationChange.Type.DELETED, null, now, null)));
+        changeRepository.append(changes);
+    }
+}
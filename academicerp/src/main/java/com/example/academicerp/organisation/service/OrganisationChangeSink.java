@@ -0,0 +1,15 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.dto.OrganisationChange;
+
+import java.util.List;
+
+/**
+ * Where {@link OrganisationChangePublisher} delivers outbox changes, in position order. A batch
+ * that throws is delivered again on the next run, so a sink can see a change more than once and
+ * must tolerate duplicates.
+ */
+public interface OrganisationChangeSink {
+
+    void publish(List<OrganisationChange> changes);
+}
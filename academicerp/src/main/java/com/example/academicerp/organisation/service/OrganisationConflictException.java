@@ -0,0 +1,23 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.entity.Organisation;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * An edit was based on an older version of the organisation than the one stored. Answered with
+ * 409 and the current state, so the client can merge its changes and retry.
+ */
+public class OrganisationConflictException extends ResponseStatusException {
+
+    private final transient Organisation current;
+
+    public OrganisationConflictException(Organisation current) {
+        super(HttpStatus.CONFLICT, "This organisation was changed by someone else in the meantime.");
+        this.current = current;
+    }
+
+    public Organisation getCurrent() {
+        return current;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.dto.OrganisationSummary;
+import com.example.academicerp.organisation.entity.Organisation;
+import org.springframework.data.domain.Page;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * HTTP validators for organisation resources, derived from {@code version} and {@code updatedAt}
+ * so they can be computed without serializing the representation.
+ */
+public final class OrganisationEtags {
+
+    private OrganisationEtags() {
+    }
+
+    /**
+     * Strong ETag of a single organisation: its version, which changes whenever the row or one of
+     * its contacts does.
+     */
+    public static String of(Organisation org) {
+        return "\"" + org.getId() + "-v" + org.getVersion() + "\"";
+    }
+
+    /** Weak ETag of a summary page: its position, total and the version of every row on it. */
+    public static String ofSummaries(Page<OrganisationSummary> page) {
+        return weak(page, row -> row.getId() + ":" + micros(row.getUpdatedAt()));
+    }
+
+    /**
+     * Weak ETag of a sparse page. Rows carry only the requested fields, so the tag hashes their
+     * values: a change to a column nobody asked for leaves the representation, and the tag, alone.
+     */
+    public static String ofRows(Page<Map<String, Object>> page) {
+        return weak(page, Object::toString);
+    }
+
+    /** Latest {@code updatedAt} on the page in epoch millis, or -1 when unknown. */
+    public static <T> long lastModified(Page<T> page, Function<T, LocalDateTime> updatedAt) {
+        return page.stream()
+                .map(updatedAt)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .map(OrganisationEtags::epochMillis)
+                .orElse(-1L);
+    }
+
+    public static long lastModified(Organisation org) {
+        return org.getUpdatedAt() != null ? epochMillis(org.getUpdatedAt()) : -1L;
+    }
+
+    /**
+     * Evaluates an {@code If-Match} header against the current strong ETag. An absent header
+     * always matches; weak tags never do, except the current tag itself: Tomcat marks the ETag of
+     * a gzipped response weak, although it still names the same version.
+     */
+    public static boolean matches(String ifMatch, String currentEtag) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return true;
+        }
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(currentEtag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> String weak(Page<T> page, Function<T, String> version) {
+        StringBuilder fingerprint = new StringBuilder()
+                .append(page.getNumber()).append('/').append(page.getSize()).append('/')
+                .append(page.getTotalElements()).append(page.getSort());
+        for (T row : page) {
+            fingerprint.append('|').append(version.apply(row));
+        }
+        return "W/\"" + DigestUtils.md5DigestAsHex(fingerprint.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static long micros(LocalDateTime time) {
+        return time == null ? 0 : ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), time);
+    }
+}
@@ -0,0 +1,291 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.dto.OrganisationChange;
+import com.example.academicerp.organisation.dto.OrganisationChangeNotice;
+import com.example.academicerp.organisation.repository.OrganisationChangeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pushes organisation changes to browsers over server-sent events.
+ * <p>
+ * Every node tails the change outbox, so clients hear about writes made on any node. Open
+ * streams are asynchronous requests and hold no servlet thread while idle. A change is queued to
+ * every client and the queues are written out by a small pool of sender threads, so the tailing
+ * thread never waits for a socket. A client whose queue is full is too slow to keep up and is
+ * disconnected; its browser reconnects with {@code Last-Event-ID} and the missed changes are
+ * replayed from the outbox, or it is told to reload when too many were missed.
+ */
+@Slf4j
+public class OrganisationEventBroadcaster implements DisposableBean {
+
+    public static final String CHANGE_EVENT = "organisation";
+    public static final String RESET_EVENT = "reset";
+
+    private final OrganisationChangeRepository changeRepository;
+    private final Executor senders;
+    private final int bufferSize;
+    private final int maxClients;
+    private final int replayLimit;
+    private final Duration timeout;
+    private final Duration settleTime;
+    private final Counter evictions;
+
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    /** Serialises tailing with subscriptions, so a new client misses nothing between replay and live changes. */
+    private final ReentrantLock tailLock = new ReentrantLock();
+    /** Last outbox position broadcast; -1 while nobody is connected. Guarded by tailLock. */
+    private long position = -1;
+
+    public OrganisationEventBroadcaster(OrganisationChangeRepository changeRepository, Executor senders,
+                                        int bufferSize, int maxClients, int replayLimit, Duration timeout,
+                                        Duration settleTime, MeterRegistry registry) {
+        if (replayLimit >= bufferSize) {
+            throw new IllegalArgumentException("A replay must fit in a client's buffer");
+        }
+        this.changeRepository = changeRepository;
+        this.senders = senders;
+        this.bufferSize = bufferSize;
+        this.maxClients = maxClients;
+        this.replayLimit = replayLimit;
+        this.timeout = timeout;
+        this.settleTime = settleTime;
+        this.evictions = Counter.builder("organisation.events.evictions")
+                .description("Event stream clients disconnected for falling behind")
+                .register(registry);
+        Gauge.builder("organisation.events.clients", clients, Set::size)
+                .description("Open organisation event streams")
+                .register(registry);
+    }
+
+    /**
+     * Opens a stream for one client. With {@code lastEventId} the changes after it are replayed
+     * first, or a reset event is sent when they are no longer retained or too many to replay.
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        if (clients.size() >= maxClients) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many open event streams");
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Client client = new Client(emitter);
+        emitter.onCompletion(() -> clients.remove(client));
+        emitter.onTimeout(client::close);
+        emitter.onError(error -> client.close());
+
+        tailLock.lock();
+        try {
+            long head = head();
+            // Commits the response, so the browser sees the stream open before the first change
+            client.offer(SseEmitter.event().comment("open"));
+            if (lastEventId != null && lastEventId < head) {
+                replay(client, lastEventId, head);
+            }
+            client.lastPosition = head;
+            clients.add(client);
+        } catch (DataAccessException e) {
+            emitter.completeWithError(e);
+            throw e;
+        } finally {
+            tailLock.unlock();
+        }
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${organisation.events.poll-interval}")
+    public void poll() {
+        tailLock.lock();
+        try {
+            if (clients.isEmpty()) {
+                position = -1;
+                return;
+            }
+            head();
+            List<OrganisationChange> changes;
+            do {
+                changes = changeRepository.findSettledAfter(position, Instant.now().minus(settleTime), replayLimit);
+                for (OrganisationChange change : changes) {
+                    clients.forEach(client -> client.offer(change));
+                    position = change.getPosition();
+                }
+            } while (changes.size() == replayLimit);
+        } catch (DataAccessException e) {
+            log.warn("Reading organisation changes for the event stream failed: {}", e.getMessage());
+        } finally {
+            tailLock.unlock();
+        }
+    }
+
+    /** Keeps idle streams open through proxies and notices clients that went away. */
+    @Scheduled(fixedDelayString = "${organisation.events.heartbeat-interval}")
+    public void heartbeat() {
+        clients.forEach(client -> client.offer(SseEmitter.event().comment("")));
+    }
+
+    public int clientCount() {
+        return clients.size();
+    }
+
+    @Override
+    public void destroy() {
+        clients.forEach(Client::close);
+        if (senders instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    private long head() {
+        if (position < 0) {
+            Long latest = changeRepository.latestPosition();
+            position = latest == null ? 0 : latest;
+        }
+        return position;
+    }
+
+    private void replay(Client client, long lastEventId, long head) {
+        Long oldest = changeRepository.oldestPosition();
+        List<OrganisationChange> missed = changeRepository.findAfter(lastEventId, replayLimit + 1).stream()
+                .filter(change -> change.getPosition() <= head)
+                .toList();
+        if ((oldest != null && lastEventId < oldest - 1) || missed.size() > replayLimit) {
+            client.offer(SseEmitter.event().name(RESET_EVENT).id(String.valueOf(head)).data(""));
+            return;
+        }
+        client.lastPosition = lastEventId;
+        missed.forEach(client::offer);
+    }
+
+    /** One open stream and the events waiting to be written to it. */
+    private final class Client {
+
+        private final SseEmitter emitter;
+        private final ArrayDeque<SseEmitter.SseEventBuilder> queue = new ArrayDeque<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        /** Last change queued, so a change is never sent twice. Written under tailLock only. */
+        private long lastPosition;
+        private boolean sending;
+        private boolean closed;
+
+        private Client(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(OrganisationChange change) {
+            if (change.getPosition() <= lastPosition) {
+                return;
+            }
+            lastPosition = change.getPosition();
+            offer(SseEmitter.event()
+                    .name(CHANGE_EVENT)
+                    .id(String.valueOf(change.getPosition()))
+                    .data(OrganisationChangeNotice.of(change), MediaType.APPLICATION_JSON));
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            boolean evict = false;
+            boolean start = false;
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                if (queue.size() >= bufferSize) {
+                    evict = true;
+                } else {
+                    queue.add(event);
+                    start = !sending;
+                    sending = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (evict) {
+                evictions.increment();
+                log.debug("Disconnecting an organisation event stream that fell {} events behind", bufferSize);
+                close();
+            } else if (start) {
+                try {
+                    senders.execute(this::send);
+                } catch (RejectedExecutionException e) {
+                    lock.lock();
+                    try {
+                        sending = false;
+                    } finally {
+                        lock.unlock();
+                    }
+                    close();
+                }
+            }
+        }
+
+        private void send() {
+            while (true) {
+                SseEmitter.SseEventBuilder event;
+                boolean complete;
+                lock.lock();
+                try {
+                    complete = closed;
+                    event = closed ? null : queue.poll();
+                    if (event == null) {
+                        sending = false;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                if (complete) {
+                    emitter.complete();
+                    return;
+                }
+                if (event == null) {
+                    return;
+                }
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // The client went away
+                    close();
+                }
+            }
+        }
+
+        void close() {
+            boolean idle;
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                queue.clear();
+                idle = !sending;
+            } finally {
+                lock.unlock();
+            }
+            clients.remove(this);
+            // Completing waits for a write in progress; a busy sender completes once its write returns
+            if (idle) {
+                emitter.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.entity.Organisation;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes organisation rows one at a time so an export never holds more than the current row.
+ * HR contacts are not part of the export; only the organisation's own columns are written.
+ */
+abstract class OrganisationExportWriter implements Closeable {
+
+    static final String[] COLUMNS = {
+            "id", "name", "address", "city", "state", "country", "pincode",
+            "website", "industryType", "isActive", "createdAt", "updatedAt"
+    };
+
+    static OrganisationExportWriter create(OrganisationExportFormat format, OutputStream out) throws IOException {
+        return format == OrganisationExportFormat.CSV ? new Csv(out) : new NdJson(out);
+    }
+
+    abstract void write(Organisation org) throws IOException;
+
+    private static Object[] values(Organisation org) {
+        return new Object[]{
+                org.getId(), org.getName(), org.getAddress(), org.getCity(), org.getState(), org.getCountry(),
+                org.getPincode(), org.getWebsite(), org.getIndustryType(), org.getIsActive(),
+                org.getCreatedAt(), org.getUpdatedAt()
+        };
+    }
+
+    private static final class NdJson extends OrganisationExportWriter {
+
+        private final JsonGenerator generator;
+
+        NdJson(OutputStream out) throws IOException {
+            this.generator = new JsonFactory().createGenerator(out, JsonEncoding.UTF8);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        void write(Organisation org) throws IOException {
+            Object[] values = values(org);
+            generator.writeStartObject();
+            for (int i = 0; i < COLUMNS.length; i++) {
+                Object value = values[i];
+                if (value == null) {
+                    generator.writeNullField(COLUMNS[i]);
+                } else if (value instanceof Long l) {
+                    generator.writeNumberField(COLUMNS[i], l);
+                } else if (value instanceof Boolean b) {
+                    generator.writeBooleanField(COLUMNS[i], b);
+                } else {
+                    generator.writeStringField(COLUMNS[i], value.toString());
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class Csv extends OrganisationExportWriter {
+
+        private final Writer writer;
+
+        Csv(OutputStream out) throws IOException {
+            this.writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            this.writer.write(String.join(",", COLUMNS));
+            this.writer.write("\r\n");
+        }
+
+        @Override
+        void write(Organisation org) throws IOException {
+            Object[] values = values(org);
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (values[i] != null) {
+                    writer.write(escape(values[i].toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
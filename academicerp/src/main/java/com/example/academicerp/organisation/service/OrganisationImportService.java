@@ -0,0 +1,278 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.config.CacheConfig;
+import com.example.academicerp.config.JpaBatchingConfig;
+import com.example.academicerp.organisation.dto.ImportReport;
+import com.example.academicerp.organisation.dto.ImportRowResult;
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.entity.OrganisationHr;
+import com.example.academicerp.organisation.repository.OrganisationRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Bulk import of organisations. Rows are validated individually with the entity's Bean
+ * Validation constraints, then persisted in chunks of {@link JpaBatchingConfig#BATCH_SIZE} so
+ * each chunk goes out as batched INSERTs in its own short transaction. A chunk that fails in
+ * the database is retried row by row to pin the error on the offending rows.
+ */
+@Service
+public class OrganisationImportService {
+
+    private static final String SAVE_FAILED_MESSAGE =
+            "We couldn't save this row due to data rules. Please review the inputs and try again.";
+
+    private final OrganisationRepository organisationRepository;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${organisation.import.max-rows:50000}")
+    private int maxRows;
+
+    public OrganisationImportService(OrganisationRepository organisationRepository,
+                                     Validator validator,
+                                     PlatformTransactionManager transactionManager,
+                                     ApplicationEventPublisher eventPublisher,
+                                     ObjectMapper objectMapper) {
+        this.organisationRepository = organisationRepository;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.ORGANISATION_PAGES, allEntries = true)
+    public ImportReport importOrganisations(List<Organisation> organisations) {
+        List<Row> rows = new ArrayList<>(organisations.size());
+        for (int i = 0; i < organisations.size(); i++) {
+            rows.add(new Row(i + 1, organisations.get(i)));
+        }
+        return importRows(rows);
+    }
+
+    /**
+     * Imports a JSON array of organisations. The array is read one element at a time, so an
+     * oversized body is rejected once the row limit is passed instead of after it is all bound.
+     */
+    @CacheEvict(cacheNames = CacheConfig.ORGANISATION_PAGES, allEntries = true)
+    public ImportReport importJson(InputStream in) throws IOException {
+        List<Row> rows = new ArrayList<>();
+        try (JsonParser parser = objectMapper.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "JSON import must be an array of organisations");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                checkRowLimit(rows.size() + 1);
+                rows.add(new Row(rows.size() + 1, parser.readValueAs(Organisation.class)));
+            }
+        } catch (JsonProcessingException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed JSON import: " + ex.getOriginalMessage());
+        }
+        return importRows(rows);
+    }
+
+    /**
+     * Imports a CSV body with a header row. Recognised columns (case-insensitive) are the
+     * organisation fields plus an optional single HR contact: hrFirstName, hrLastName, hrEmail,
+     * hrContactNumber, hrDesignation. Unknown columns such as id or timestamps are ignored, so
+     * the output of the CSV export can be re-imported.
+     */
+    @CacheEvict(cacheNames = CacheConfig.ORGANISATION_PAGES, allEntries = true)
+    public ImportReport importCsv(InputStream in) throws IOException {
+        List<Row> rows = new ArrayList<>();
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            CsvReader csv = new CsvReader(reader);
+            List<String> header = csv.readRecord();
+            if (header == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV upload is empty");
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            if (!columns.containsKey("name")) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header must contain a name column");
+            }
+            List<String> record;
+            while ((record = csv.readRecord()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                checkRowLimit(rows.size() + 1);
+                rows.add(toRow(rows.size() + 1, record, columns));
+            }
+        }
+        return importRows(rows);
+    }
+
+    private ImportReport importRows(List<Row> rows) {
+        checkRowLimit(rows.size());
+        long started = System.nanoTime();
+
+        List<Row> valid = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            if (row.errors.isEmpty()) {
+                row.organisation.getHrContacts().forEach(hr -> hr.setOrganisation(row.organisation));
+                for (ConstraintViolation<Organisation> violation : validator.validate(row.organisation)) {
+                    row.errors.add(error(violation.getPropertyPath().toString(), violation.getMessage()));
+                }
+            }
+            if (row.errors.isEmpty()) {
+                valid.add(row);
+            }
+        }
+
+        for (int from = 0; from < valid.size(); from += JpaBatchingConfig.BATCH_SIZE) {
+            List<Row> chunk = valid.subList(from, Math.min(from + JpaBatchingConfig.BATCH_SIZE, valid.size()));
+            try {
+                persist(chunk);
+            } catch (DataAccessException ex) {
+                for (Row row : chunk) {
+                    try {
+                        persist(List.of(row));
+                    } catch (DataAccessException rowEx) {
+                        row.errors.add(error("", SAVE_FAILED_MESSAGE));
+                    }
+                }
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        List<ImportRowResult> results = new ArrayList<>(rows.size());
+        int imported = 0;
+        for (Row row : rows) {
+            if (row.errors.isEmpty()) {
+                imported++;
+                results.add(new ImportRowResult(row.index, ImportRowResult.Status.IMPORTED, row.organisation.getId(), List.of()));
+            } else {
+                results.add(new ImportRowResult(row.index, ImportRowResult.Status.FAILED, null, row.errors));
+            }
+        }
+        double seconds = elapsedNanos / 1_000_000_000d;
+        double rowsPerSecond = seconds > 0 ? imported / seconds : imported;
+        return new ImportReport(rows.size(), imported, rows.size() - imported,
+                elapsedNanos / 1_000_000, Math.round(rowsPerSecond * 10) / 10d, results);
+    }
+
+    private void persist(List<Row> chunk) {
+        // save() treats a row with a version as existing and merges it. Rows exported with their
+        // version carry one, and so do rows retried after a rolled-back attempt, which also
+        // handed out ids that must not be reused
+        chunk.forEach(row -> {
+            row.organisation.setId(null);
+            row.organisation.setVersion(null);
+            row.organisation.getHrContacts().forEach(hr -> {
+                hr.setId(null);
+                hr.setVersion(null);
+            });
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Organisation> saved = organisationRepository.saveAll(chunk.stream().map(row -> row.organisation).toList());
+            entityManager.flush();
+            eventPublisher.publishEvent(OrganisationsChangedEvent.saved(saved));
+            entityManager.clear();
+        });
+    }
+
+    private void checkRowLimit(int count) {
+        if (count > maxRows) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "An import may contain at most " + maxRows + " rows");
+        }
+    }
+
+    private Row toRow(int index, List<String> record, Map<String, Integer> columns) {
+        Organisation org = new Organisation();
+        org.setName(value(record, columns, "name"));
+        org.setAddress(value(record, columns, "address"));
+        org.setCity(value(record, columns, "city"));
+        org.setState(value(record, columns, "state"));
+        org.setCountry(value(record, columns, "country"));
+        org.setPincode(value(record, columns, "pincode"));
+        org.setWebsite(value(record, columns, "website"));
+        org.setIndustryType(value(record, columns, "industrytype"));
+        Row row = new Row(index, org);
+
+        String active = value(record, columns, "isactive");
+        if ("true".equalsIgnoreCase(active) || "false".equalsIgnoreCase(active)) {
+            org.setIsActive(Boolean.valueOf(active));
+        } else if (active != null) {
+            row.errors.add(error("isActive", "isActive must be true or false"));
+        }
+
+        String hrFirstName = value(record, columns, "hrfirstname");
+        String hrLastName = value(record, columns, "hrlastname");
+        String hrEmail = value(record, columns, "hremail");
+        String hrContactNumber = value(record, columns, "hrcontactnumber");
+        String hrDesignation = value(record, columns, "hrdesignation");
+        if (hrFirstName != null || hrLastName != null || hrEmail != null
+                || hrContactNumber != null || hrDesignation != null) {
+            OrganisationHr hr = new OrganisationHr(hrFirstName, hrLastName, hrEmail, hrContactNumber);
+            hr.setDesignation(hrDesignation);
+            org.addHrContact(hr);
+        }
+        return row;
+    }
+
+    private static String value(List<String> record, Map<String, Integer> columns, String column) {
+        Integer i = columns.get(column);
+        if (i == null || i >= record.size()) {
+            return null;
+        }
+        String value = record.get(i).trim();
+        return StringUtils.hasLength(value) ? value : null;
+    }
+
+    private static Map<String, String> error(String field, String message) {
+        Map<String, String> m = new HashMap<>();
+        m.put("field", field);
+        m.put("message", message);
+        return m;
+    }
+
+    private static final class Row {
+        private final int index;
+        private final Organisation organisation;
+        private final List<Map<String, String>> errors = new ArrayList<>();
+
+        private Row(int index, Organisation organisation) {
+            this.index = index;
+            this.organisation = organisation != null ? organisation : new Organisation();
+            if (this.organisation.getHrContacts() == null) {
+                this.organisation.setHrContacts(new ArrayList<>());
+            }
+        }
+    }
+}
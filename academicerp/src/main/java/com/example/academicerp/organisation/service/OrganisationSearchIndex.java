@@ -0,0 +1,379 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.entity.OrganisationHr;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over organisations and their HR contacts.
+ * <p>
+ * Every term maps to the organisations containing it, weighted by the field it came from. A
+ * second index from trigrams to terms finds misspelt query terms: candidates sharing enough
+ * trigrams with the query term are confirmed with a bounded edit distance. Query terms match
+ * exactly, as a prefix of an indexed term, or within one edit (two for terms of eight or more
+ * characters); every query term must match for an organisation to be returned.
+ */
+final class OrganisationSearchIndex {
+
+    enum Field {
+        NAME(3.0f),
+        INDUSTRY_TYPE(1.5f),
+        CITY(1.5f),
+        CONTACT_NAME(1.5f),
+        WEBSITE(1.0f),
+        CONTACT_EMAIL(1.0f),
+        CONTACT_DESIGNATION(1.0f);
+
+        private final float weight;
+
+        Field(float weight) {
+            this.weight = weight;
+        }
+    }
+
+    record Hit(long id, float score) {
+    }
+
+    private static final Pattern SPLIT = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Set<String> STOP_WORDS = Set.of("http", "https", "www", "com", "org", "net", "co", "in");
+
+    private static final float PREFIX_QUALITY = 0.75f;
+    private static final float[] FUZZY_QUALITY = {1.0f, 0.6f, 0.4f};
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+    private final Map<Long, Map<String, Float>> termsByDocument = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void put(Organisation org) {
+        Map<String, Float> terms = analyse(org);
+        lock.writeLock().lock();
+        try {
+            removeInternal(org.getId());
+            terms.forEach((term, weight) -> {
+                Map<Long, Float> docs = postings.computeIfAbsent(term, t -> {
+                    trigrams(t).forEach(gram -> termsByTrigram.computeIfAbsent(gram, g -> new HashSet<>()).add(t));
+                    return new HashMap<>();
+                });
+                docs.put(org.getId(), weight);
+            });
+            termsByDocument.put(org.getId(), terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    boolean contains(long id) {
+        lock.readLock().lock();
+        try {
+            return termsByDocument.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return termsByDocument.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Returns at most {@code limit} hits, best first; ties go to the lower id. */
+    List<Hit> search(String query, int limit) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int documents = termsByDocument.size();
+            List<Map<String, Float>> expansions = new ArrayList<>();
+            for (String token : tokens) {
+                Map<String, Float> expansion = expand(token);
+                if (expansion.isEmpty()) {
+                    return List.of();
+                }
+                expansions.add(expansion);
+            }
+            // Most selective token first so later tokens only score the surviving candidates
+            expansions.sort(Comparator.comparingLong(this::postingCount));
+
+            Map<Long, Float> scores = null;
+            for (Map<String, Float> expansion : expansions) {
+                Map<Long, Float> tokenScores = new HashMap<>();
+                for (Map.Entry<String, Float> candidate : expansion.entrySet()) {
+                    Map<Long, Float> docs = postings.get(candidate.getKey());
+                    float idf = (float) Math.log(1.0 + (double) documents / docs.size());
+                    float quality = candidate.getValue() * idf;
+                    if (scores == null) {
+                        docs.forEach((id, weight) -> tokenScores.merge(id, weight * quality, Math::max));
+                    } else {
+                        for (Long id : scores.keySet()) {
+                            Float weight = docs.get(id);
+                            if (weight != null) {
+                                tokenScores.merge(id, weight * quality, Math::max);
+                            }
+                        }
+                    }
+                }
+                if (scores != null) {
+                    Map<Long, Float> previous = scores;
+                    tokenScores.replaceAll((id, score) -> score + previous.get(id));
+                }
+                scores = tokenScores;
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            return top(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long postingCount(Map<String, Float> expansion) {
+        long count = 0;
+        for (String term : expansion.keySet()) {
+            count += postings.get(term).size();
+        }
+        return count;
+    }
+
+    /** Indexed terms matching {@code token}, each with a match quality in (0, 1]. */
+    private Map<String, Float> expand(String token) {
+        Map<String, Float> matches = new HashMap<>();
+        if (postings.containsKey(token)) {
+            matches.put(token, 1.0f);
+        }
+
+        if (token.length() >= 2) {
+            int expanded = 0;
+            for (String term : postings.subMap(token, false, token + Character.MAX_VALUE, false).keySet()) {
+                if (++expanded > MAX_PREFIX_EXPANSIONS) {
+                    break;
+                }
+                matches.putIfAbsent(term, PREFIX_QUALITY);
+            }
+        }
+
+        int maxEdits = token.length() >= 8 ? 2 : token.length() >= 4 ? 1 : 0;
+        if (maxEdits > 0) {
+            Set<String> candidates = new HashSet<>();
+            addCandidates(token, maxEdits, candidates);
+            for (String term : candidates) {
+                if (matches.containsKey(term) || Math.abs(term.length() - token.length()) > maxEdits) {
+                    continue;
+                }
+                int distance = editDistance(token, term, maxEdits);
+                if (distance <= maxEdits) {
+                    matches.put(term, FUZZY_QUALITY[distance]);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Adds the indexed terms that may be within {@code edits} of {@code token}. An insertion,
+     * deletion or substitution destroys at most three trigrams, so a match reached without
+     * transpositions shares at least minShared of them and therefore at least one of the
+     * (size - minShared + 1) rarest: only those posting lists need scanning. An adjacent
+     * transposition can destroy four ("amce" shares none with "acme"), so matches using one are
+     * looked up from the token with that transposition applied, one edit closer.
+     */
+    private void addCandidates(String token, int edits, Set<String> candidates) {
+        if (edits == 0) {
+            if (postings.containsKey(token)) {
+                candidates.add(token);
+            }
+            return;
+        }
+        Set<String> grams = new HashSet<>(trigrams(token));
+        int minShared = Math.max(1, grams.size() - 3 * edits);
+        List<Set<String>> lists = new ArrayList<>();
+        for (String gram : grams) {
+            lists.add(termsByTrigram.getOrDefault(gram, Set.of()));
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        for (Set<String> terms : lists.subList(0, grams.size() - minShared + 1)) {
+            for (String term : terms) {
+                if (!candidates.contains(term) && sharedTrigrams(term, grams) >= minShared) {
+                    candidates.add(term);
+                }
+            }
+        }
+
+        char[] chars = token.toCharArray();
+        for (int i = 0; i + 1 < chars.length; i++) {
+            if (chars[i] != chars[i + 1]) {
+                swap(chars, i);
+                addCandidates(new String(chars), edits - 1, candidates);
+                swap(chars, i);
+            }
+        }
+    }
+
+    private static void swap(char[] chars, int i) {
+        char c = chars[i];
+        chars[i] = chars[i + 1];
+        chars[i + 1] = c;
+    }
+
+    private void removeInternal(long id) {
+        Map<String, Float> terms = termsByDocument.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms.keySet()) {
+            Map<Long, Float> docs = postings.get(term);
+            docs.remove(id);
+            if (docs.isEmpty()) {
+                postings.remove(term);
+                for (String gram : trigrams(term)) {
+                    Set<String> grams = termsByTrigram.get(gram);
+                    grams.remove(term);
+                    if (grams.isEmpty()) {
+                        termsByTrigram.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Map<String, Float> analyse(Organisation org) {
+        Map<String, Float> terms = new HashMap<>();
+        add(terms, Field.NAME, org.getName());
+        add(terms, Field.CITY, org.getCity());
+        add(terms, Field.INDUSTRY_TYPE, org.getIndustryType());
+        add(terms, Field.WEBSITE, org.getWebsite());
+        if (org.getHrContacts() != null) {
+            for (OrganisationHr hr : org.getHrContacts()) {
+                add(terms, Field.CONTACT_NAME, hr.getFirstName());
+                add(terms, Field.CONTACT_NAME, hr.getLastName());
+                add(terms, Field.CONTACT_EMAIL, hr.getEmail());
+                add(terms, Field.CONTACT_DESIGNATION, hr.getDesignation());
+            }
+        }
+        return terms;
+    }
+
+    private static void add(Map<String, Float> terms, Field field, String text) {
+        for (String token : tokenize(text)) {
+            terms.merge(token, field.weight, Math::max);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : SPLIT.split(folded)) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /** Trigrams of the term padded with one boundary marker on each side. */
+    private static List<String> trigrams(String term) {
+        String padded = "\u0000" + term + "\u0000";
+        List<String> grams = new ArrayList<>(padded.length() - 2);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private static int sharedTrigrams(String term, Set<String> grams) {
+        int shared = 0;
+        for (String gram : new HashSet<>(trigrams(term))) {
+            if (grams.contains(gram)) {
+                shared++;
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Optimal string alignment distance (insertions, deletions, substitutions and adjacent
+     * transpositions), giving up with {@code max + 1} as soon as it must exceed {@code max}.
+     */
+    static int editDistance(String a, String b, int max) {
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+
+    private static List<Hit> top(Map<Long, Float> scores, int limit) {
+        Comparator<Hit> ranking = Comparator.comparingDouble(Hit::score).reversed().thenComparingLong(Hit::id);
+        PriorityQueue<Hit> heap = new PriorityQueue<>(limit + 1, ranking.reversed());
+        scores.forEach((id, score) -> {
+            heap.add(new Hit(id, score));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+        List<Hit> hits = new ArrayList<>(heap);
+        hits.sort(ranking);
+        return hits;
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.config.ReplicaRoutingDataSource;
+import com.example.academicerp.organisation.dto.OrganisationChange;
+import com.example.academicerp.organisation.dto.OrganisationFilter;
+import com.example.academicerp.organisation.dto.OrganisationSearchHit;
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.repository.OrganisationChangeRepository;
+import com.example.academicerp.organisation.repository.OrganisationRepository;
+import com.example.academicerp.organisation.repository.OrganisationSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Ranked, typo-tolerant search over organisations backed by {@link OrganisationSearchIndex}.
+ * The index is built from the database once the application is ready. Commits on this node are
+ * then applied from {@link OrganisationsChangedEvent}s as they happen, and commits on other
+ * nodes are picked up from the change outbox. A rebuild resumes the outbox from the settled
+ * position read before it, so writes that race with it are applied again afterwards.
+ */
+@Slf4j
+@Service
+public class OrganisationSearchService {
+
+    public static final int DEFAULT_LIMIT = 20;
+
+    private final OrganisationRepository organisationRepository;
+    private final OrganisationChangeRepository changeRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final ReentrantLock pollLock = new ReentrantLock();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${organisation.search.rebuild-chunk-size:500}")
+    private int rebuildChunkSize = 500;
+
+    @Value("${organisation.changes.settle-time}")
+    private Duration settleTime;
+
+    @Value("${organisation.search.poll-batch-size:500}")
+    private int pollBatchSize = 500;
+
+    /** Last outbox position applied; -1 until the first rebuild. Guarded by pollLock. */
+    private long position = -1;
+
+    private volatile OrganisationSearchIndex index = new OrganisationSearchIndex();
+    private volatile boolean ready;
+
+    private volatile Rebuild building;
+
+    /**
+     * An index being rebuilt and the ids written meanwhile, which the rebuild must not
+     * overwrite. Guarded by a lock rather than a monitor so virtual threads never pin on it.
+     */
+    private record Rebuild(OrganisationSearchIndex index, Set<Long> written, ReentrantLock lock) {
+    }
+
+    public OrganisationSearchService(OrganisationRepository organisationRepository,
+                                     OrganisationChangeRepository changeRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.organisationRepository = organisationRepository;
+        this.changeRepository = changeRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Also runs from after-commit callbacks, where the finished transaction must not be joined
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrganisationSearchHit> search(String query, int limit) {
+        if (!StringUtils.hasText(query)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search query must not be empty");
+        }
+        if (!ready) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Search index is still being built");
+        }
+        List<OrganisationSearchIndex.Hit> hits =
+                index.search(query, Math.min(Math.max(limit, 1), OrganisationService.MAX_PAGE_SIZE));
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Organisation> byId = organisationRepository
+                .findAllById(hits.stream().map(OrganisationSearchIndex.Hit::id).toList())
+                .stream()
+                .collect(Collectors.toMap(Organisation::getId, Function.identity()));
+        List<OrganisationSearchHit> results = new ArrayList<>(hits.size());
+        for (OrganisationSearchIndex.Hit hit : hits) {
+            // A row deleted after the index was read simply drops out of the result
+            Organisation org = byId.get(hit.id());
+            if (org != null) {
+                Hibernate.initialize(org.getHrContacts());
+                results.add(new OrganisationSearchHit(hit.score(), org));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Rebuilds the index from the database and swaps it in. Searches keep using the previous
+     * index meanwhile, and writes committed during the rebuild are applied to both.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long started = System.nanoTime();
+            Long settled = changeRepository.latestSettledPosition(Instant.now().minus(settleTime));
+            OrganisationSearchIndex fresh = new OrganisationSearchIndex();
+            Rebuild rebuild = new Rebuild(fresh, new HashSet<>(), new ReentrantLock());
+            building = rebuild;
+
+            // On the primary, which already holds every change up to the settled position
+            ReplicaRoutingDataSource.readFromPrimary(() -> readOnlyTransaction.execute(status -> {
+                try (Stream<Organisation> rows = organisationRepository.streamAll(
+                        OrganisationSpecifications.matching(new OrganisationFilter()), rebuildChunkSize)) {
+                    Iterator<Organisation> it = rows.iterator();
+                    List<Organisation> chunk = new ArrayList<>(rebuildChunkSize);
+                    while (it.hasNext()) {
+                        chunk.add(it.next());
+                        if (chunk.size() == rebuildChunkSize || !it.hasNext()) {
+                            // Touching the contacts of a whole chunk lets @BatchSize load them together
+                            chunk.forEach(org -> Hibernate.initialize(org.getHrContacts()));
+                            for (Organisation org : chunk) {
+                                rebuild.lock().lock();
+                                try {
+                                    if (!rebuild.written().contains(org.getId())) {
+                                        fresh.put(org);
+                                    }
+                                } finally {
+                                    rebuild.lock().unlock();
+                                }
+                            }
+                            chunk.clear();
+                            entityManager.clear();
+                        }
+                    }
+                }
+                return null;
+            }));
+
+            index = fresh;
+            ready = true;
+            pollLock.lock();
+            try {
+                position = settled == null ? 0 : settled;
+            } finally {
+                pollLock.unlock();
+            }
+            log.info("Organisation search index built with {} organisations in {} ms",
+                    fresh.size(), (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            building = null;
+            rebuildLock.unlock();
+        }
+        poll();
+    }
+
+    /** Applies changes committed on any node since the last poll. */
+    @Scheduled(fixedDelayString = "${organisation.search.poll-interval:PT2S}")
+    public void poll() {
+        pollLock.lock();
+        try {
+            if (position < 0) {
+                return;
+            }
+            List<OrganisationChange> changes;
+            do {
+                changes = changeRepository.findSettledAfter(position, Instant.now().minus(settleTime), pollBatchSize);
+                if (changes.isEmpty()) {
+                    return;
+                }
+                Set<Long> ids = changes.stream()
+                        .map(OrganisationChange::getOrganisationId)
+                        .collect(Collectors.toCollection(LinkedHashSet::new));
+                Map<Long, Organisation> current = ReplicaRoutingDataSource.readFromPrimary(() ->
+                        readOnlyTransaction.execute(status -> organisationRepository.findWithHrContactsByIdIn(ids).stream()
+                                .collect(Collectors.toMap(Organisation::getId, Function.identity()))));
+                for (Long id : ids) {
+                    Organisation org = current.get(id);
+                    if (org == null) {
+                        apply(id, target -> target.remove(id));
+                    } else {
+                        apply(id, target -> target.put(org));
+                    }
+                }
+                position = changes.get(changes.size() - 1).getPosition();
+            } while (changes.size() == pollBatchSize);
+        } catch (DataAccessException e) {
+            log.warn("Reading organisation changes for the search index failed: {}", e.getMessage());
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrganisationsChanged(OrganisationsChangedEvent event) {
+        switch (event.type()) {
+            case SAVED -> event.saved().forEach(org -> apply(org.getId(), target -> target.put(org)));
+            case DELETED -> event.deletedIds().forEach(id -> apply(id, target -> target.remove(id)));
+        }
+    }
+
+    private void apply(Long id, Consumer<OrganisationSearchIndex> change) {
+        // Read the rebuild state before the live index: a rebuild finishing in between has then
+        // already swapped its index in, so the change cannot fall between the two
+        Rebuild pending = building;
+        change.accept(index);
+        if (pending != null) {
+            pending.lock().lock();
+            try {
+                pending.written().add(id);
+                change.accept(pending.index());
+            } finally {
+                pending.lock().unlock();
+            }
+        }
+    }
+}
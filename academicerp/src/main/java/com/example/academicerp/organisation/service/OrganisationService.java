@@ -0,0 +1,470 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.config.CacheConfig;
+import com.example.academicerp.config.ReplicaRoutingDataSource;
+import com.example.academicerp.organisation.dto.BulkDeleteRequest;
+import com.example.academicerp.organisation.dto.BulkDeleteResponse;
+import com.example.academicerp.organisation.dto.CursorPageResponse;
+import com.example.academicerp.organisation.dto.OrganisationCursor;
+import com.example.academicerp.organisation.dto.OrganisationFieldSet;
+import com.example.academicerp.organisation.dto.OrganisationFilter;
+import com.example.academicerp.organisation.dto.OrganisationSummary;
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.entity.OrganisationHr;
+import com.example.academicerp.organisation.repository.OrganisationRepository;
+import com.example.academicerp.organisation.repository.OrganisationSpecifications;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Service
+public class OrganisationService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of(
+            "id", "name", "city", "state", "country", "industryType", "isActive", "createdAt", "updatedAt");
+
+    private static final List<String> READ_ONLY_PROPERTIES = List.of("id", "createdAt", "updatedAt");
+
+    private final OrganisationRepository organisationRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${organisation.export.fetch-size:500}")
+    private int exportFetchSize;
+
+    @Value("${organisation.export.clear-interval:1000}")
+    private int exportClearInterval;
+
+    @Value("${organisation.bulk-delete.chunk-size:1000}")
+    private int bulkDeleteChunkSize = 1000;
+
+    public OrganisationService(OrganisationRepository organisationRepository,
+                               ObjectMapper objectMapper,
+                               Validator validator,
+                               ApplicationEventPublisher eventPublisher) {
+        this.organisationRepository = organisationRepository;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Default listing: summary rows selected by constructor projection, so no entity enters the
+     * persistence context and organisation_hr is only read by the contact-count subquery. Like
+     * every cache fill, read from the primary.
+     */
+    @Cacheable(cacheNames = CacheConfig.ORGANISATION_PAGES, key = "{'summaries', #filter, #pageable}")
+    @Transactional(readOnly = true)
+    public Page<OrganisationSummary> summaries(OrganisationFilter filter, Pageable pageable) {
+        return ReplicaRoutingDataSource.readFromPrimary(() ->
+                organisationRepository.findSummaries(OrganisationSpecifications.matching(filter), sanitise(pageable)));
+    }
+
+    /**
+     * Sparse listing holding only the requested fields. Column fields are selected directly;
+     * only asking for hrContacts loads the entities and their contacts.
+     */
+    @Cacheable(cacheNames = CacheConfig.ORGANISATION_PAGES, key = "{'fields', #filter, #pageable, #fields}")
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> listFields(OrganisationFilter filter, Pageable pageable, OrganisationFieldSet fields) {
+        return ReplicaRoutingDataSource.readFromPrimary(() -> loadFields(filter, pageable, fields));
+    }
+
+    private Page<Map<String, Object>> loadFields(OrganisationFilter filter, Pageable pageable, OrganisationFieldSet fields) {
+        if (fields.isProjectable()) {
+            return organisationRepository.findFields(OrganisationSpecifications.matching(filter), fields, sanitise(pageable));
+        }
+        return loadPage(filter, pageable).map(org -> {
+            Map<String, Object> all = objectMapper.convertValue(org, new TypeReference<Map<String, Object>>() { });
+            Map<String, Object> row = new LinkedHashMap<>();
+            fields.getFields().forEach(field -> row.put(field, OrganisationFieldSet.HR_CONTACT_COUNT.equals(field)
+                    ? (long) org.getHrContacts().size()
+                    : all.get(field)));
+            return row;
+        });
+    }
+
+    /**
+     * Keyset pagination: seeks past {@code after} instead of skipping an offset, so every slice
+     * costs the same however deep the caller has paged. One extra row is read to tell whether a
+     * next slice exists; no count query is issued.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<Organisation> scroll(OrganisationFilter filter, OrganisationCursor.Order order,
+                                                   OrganisationCursor after, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<Organisation> rows = organisationRepository.findBy(
+                OrganisationSpecifications.matching(filter).and(OrganisationSpecifications.after(after)),
+                q -> q.sortBy(order.toSort()).limit(limit + 1).all());
+
+        boolean hasMore = rows.size() > limit;
+        List<Organisation> content = hasMore ? rows.subList(0, limit) : rows;
+        content.forEach(org -> Hibernate.initialize(org.getHrContacts()));
+        String next = hasMore ? OrganisationCursor.after(order, content.get(limit - 1)).encode() : null;
+        return new CursorPageResponse<>(content, limit, next);
+    }
+
+    /**
+     * Streams every matching organisation to {@code out}. Rows come from a JDBC cursor and the
+     * persistence context is cleared periodically, so heap use stays flat for any table size.
+     */
+    @Transactional(readOnly = true)
+    public long export(OrganisationFilter filter, OrganisationExportFormat format, OutputStream out) throws IOException {
+        long written = 0;
+        try (Stream<Organisation> rows = organisationRepository.streamAll(
+                     OrganisationSpecifications.matching(filter), exportFetchSize);
+             OrganisationExportWriter writer = OrganisationExportWriter.create(format, out)) {
+            Iterator<Organisation> it = rows.iterator();
+            while (it.hasNext()) {
+                writer.write(it.next());
+                if (++written % exportClearInterval == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return written;
+    }
+
+    /** Read from the primary: a row a lagging replica returned would stay cached for the full TTL. */
+    @Cacheable(CacheConfig.ORGANISATIONS)
+    @Transactional(readOnly = true)
+    public Organisation getById(Long id) {
+        return ReplicaRoutingDataSource.readFromPrimary(() -> findWithHrContacts(id));
+    }
+
+    /**
+     * The committed state, bypassing the organisation cache, which may not have seen the commit
+     * that made an edit conflict yet, and the replica, which may not have applied it yet.
+     */
+    @Transactional(readOnly = true)
+    public Organisation getLatest(Long id) {
+        return ReplicaRoutingDataSource.readFromPrimary(() -> findWithHrContacts(id));
+    }
+
+    private Organisation findWithHrContacts(Long id) {
+        return organisationRepository.findWithHrContactsById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Organisation not found"));
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.ORGANISATION_PAGES, allEntries = true)
+    @Transactional
+    public Organisation create(Organisation organisation) {
+        organisation.setVersion(null);
+        if (organisation.getHrContacts() != null) {
+            organisation.getHrContacts().forEach(hr -> {
+                hr.setOrganisation(organisation);
+                hr.setVersion(null);
+            });
+        }
+        Organisation saved = organisationRepository.save(organisation);
+        eventPublisher.publishEvent(OrganisationsChangedEvent.saved(List.of(saved)));
+        return saved;
+    }
+
+    /**
+     * Full update: copies name and address and reconciles HR contacts by id, so only changed
+     * contacts are UPDATEd, new ones INSERTed and missing ones DELETEd. When {@code ifMatch} is
+     * given it must match the current ETag, otherwise the update is rejected with 412. Versions
+     * in the body (organisation and contacts) must match the stored ones, otherwise it is
+     * rejected with 409; a concurrent edit committing first fails this one at commit instead.
+     */
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.ORGANISATIONS, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.ORGANISATION_PAGES, allEntries = true)
+    })
+    @Transactional
+    public Organisation update(Long id, Organisation updated, String ifMatch) {
+        Organisation existing = findForUpdate(id, ifMatch);
+        checkVersions(existing, updated.getVersion(), updated.getHrContacts());
+        existing.setName(updated.getName());
+        existing.setAddress(updated.getAddress());
+        if (mergeHrContacts(existing, updated.getHrContacts())) {
+            touch(existing);
+        }
+        eventPublisher.publishEvent(OrganisationsChangedEvent.saved(List.of(existing)));
+        return existing;
+    }
+
+    /**
+     * JSON merge patch (RFC 7396): only the properties present in {@code patch} are applied, and
+     * hrContacts is left untouched unless it is present, in which case it is reconciled like a
+     * full update ({@code null} removes every contact). A {@code version} in the patch is checked
+     * like in a full update. The patched organisation is validated with the same constraints as a
+     * full update.
+     */
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.ORGANISATIONS, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.ORGANISATION_PAGES, allEntries = true)
+    })
+    @Transactional
+    public Organisation patch(Long id, JsonNode patch, String ifMatch) {
+        if (patch == null || !patch.isObject()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Patch body must be a JSON object");
+        }
+        Organisation existing = findForUpdate(id, ifMatch);
+
+        ObjectNode fields = ((ObjectNode) patch).deepCopy();
+        JsonNode contacts = fields.remove("hrContacts");
+        JsonNode version = fields.remove("version");
+        fields.remove(READ_ONLY_PROPERTIES);
+        try {
+            List<OrganisationHr> incoming = contacts == null ? null
+                    : contacts.isNull() ? List.of()
+                    : objectMapper.convertValue(contacts, new TypeReference<List<OrganisationHr>>() { });
+            checkVersions(existing, version == null || version.isNull() ? null : version.asLong(), incoming);
+            objectMapper.readerForUpdating(existing).readValue(fields);
+            if (incoming != null && mergeHrContacts(existing, incoming)) {
+                touch(existing);
+            }
+        } catch (IOException | IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Patch body does not match the organisation schema");
+        }
+
+        Set<ConstraintViolation<Organisation>> violations = validator.validate(existing);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        eventPublisher.publishEvent(OrganisationsChangedEvent.saved(List.of(existing)));
+        return existing;
+    }
+
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.ORGANISATIONS, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.ORGANISATION_PAGES, allEntries = true)
+    })
+    @Transactional
+    public void delete(Long id, String ifMatch) {
+        Organisation org = organisationRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Organisation not found"));
+        checkPrecondition(org, ifMatch);
+        // Deleting the managed entity ensures JPA cascades orphanRemoval/REMOVE to hrContacts
+        organisationRepository.delete(org);
+        eventPublisher.publishEvent(OrganisationsChangedEvent.deleted(id));
+    }
+
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.ORGANISATIONS, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.ORGANISATION_PAGES, allEntries = true)
+    })
+    @Transactional
+    public BulkDeleteResponse deleteAll() {
+        return deleteAndPublish(new BulkDeleteRequest());
+    }
+
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.ORGANISATIONS, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.ORGANISATION_PAGES, allEntries = true)
+    })
+    @Transactional
+    public BulkDeleteResponse deleteMatching(BulkDeleteRequest criteria) {
+        boolean hasCriteria = criteria != null
+                && ((criteria.getIds() != null && !criteria.getIds().isEmpty())
+                    || StringUtils.hasText(criteria.getIndustryType())
+                    || criteria.getIsActive() != null);
+        if (!hasCriteria) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Provide ids, industryType or isActive; use DELETE /api/organisations to delete everything");
+        }
+        return deleteAndPublish(criteria);
+    }
+
+    /**
+     * Deletes the matching organisations in one transaction, so a failure deletes nothing. The
+     * ids are locked, deleted set-based with their contacts and announced one chunk at a time,
+     * which bounds the ids held per statement and records each chunk as one outbox batch.
+     */
+    private BulkDeleteResponse deleteAndPublish(BulkDeleteRequest criteria) {
+        long organisations = 0;
+        long contacts = 0;
+        List<Long> ids;
+        do {
+            // Rows deleted by earlier chunks no longer match, so this reads the next chunk
+            ids = organisationRepository.lockIdsMatching(criteria, bulkDeleteChunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            BulkDeleteResponse chunk = organisationRepository.deleteByIds(ids);
+            eventPublisher.publishEvent(OrganisationsChangedEvent.deleted(ids));
+            organisations += chunk.getOrganisationsDeleted();
+            contacts += chunk.getHrContactsDeleted();
+        } while (ids.size() == bulkDeleteChunkSize);
+        return new BulkDeleteResponse(organisations, contacts);
+    }
+
+    /**
+     * One page with HR contacts already initialised: the first collection access batch-loads the
+     * contacts of every organisation on the page, so a page costs a fixed number of statements
+     * regardless of its size.
+     */
+    private Page<Organisation> loadPage(OrganisationFilter filter, Pageable pageable) {
+        Page<Organisation> page = organisationRepository.findAll(OrganisationSpecifications.matching(filter), sanitise(pageable));
+        page.forEach(org -> Hibernate.initialize(org.getHrContacts()));
+        return page;
+    }
+
+    private Organisation findForUpdate(Long id, String ifMatch) {
+        Organisation existing = organisationRepository.findWithHrContactsById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Organisation not found"));
+        checkPrecondition(existing, ifMatch);
+        return existing;
+    }
+
+    /**
+     * Rejects an edit based on an older version than the one just read. Absent versions are not
+     * checked; the read and the commit are still protected by the version column.
+     */
+    private static void checkVersions(Organisation current, Long version, List<OrganisationHr> contacts) {
+        boolean stale = version != null && !version.equals(current.getVersion());
+        if (!stale && contacts != null) {
+            Map<Long, Long> stored = new HashMap<>();
+            current.getHrContacts().forEach(hr -> stored.put(hr.getId(), hr.getVersion()));
+            stale = contacts.stream().anyMatch(hr -> hr.getId() != null && hr.getVersion() != null
+                    && stored.containsKey(hr.getId()) && !hr.getVersion().equals(stored.get(hr.getId())));
+        }
+        if (stale) {
+            throw new OrganisationConflictException(current);
+        }
+    }
+
+    private static void checkPrecondition(Organisation current, String ifMatch) {
+        if (!OrganisationEtags.matches(ifMatch, OrganisationEtags.of(current))) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED,
+                    "This organisation was changed by someone else. Please reload and try again.");
+        }
+    }
+
+    /**
+     * Contact changes do not dirty the organisation row itself; bumping updatedAt keeps the
+     * organisation's ETag and Last-Modified in step with its contacts.
+     */
+    private static void touch(Organisation org) {
+        org.setUpdatedAt(LocalDateTime.now());
+    }
+
+    /**
+     * Matches incoming contacts to existing ones by id and copies fields onto the managed
+     * entities; dirty checking then only UPDATEs rows that really changed. Contacts without a
+     * known id become INSERTs, or take over an absent contact with the same email, and existing
+     * contacts that are absent are removed (orphanRemoval). Returns whether any contact was added, removed or changed.
+     */
+    private boolean mergeHrContacts(Organisation existing, List<OrganisationHr> incoming) {
+        Map<Long, OrganisationHr> current = new HashMap<>();
+        existing.getHrContacts().forEach(hr -> current.put(hr.getId(), hr));
+
+        List<OrganisationHr> merged = new ArrayList<>();
+        boolean changed = false;
+        if (incoming != null) {
+            for (OrganisationHr source : incoming) {
+                OrganisationHr target = source.getId() != null ? current.remove(source.getId()) : null;
+                if (target == null) {
+                    target = removeByEmail(current, source.getEmail());
+                }
+                if (target == null) {
+                    target = new OrganisationHr();
+                    target.setOrganisation(existing);
+                } else if (Objects.equals(target.getFirstName(), source.getFirstName())
+                        && Objects.equals(target.getLastName(), source.getLastName())
+                        && Objects.equals(target.getEmail(), source.getEmail())
+                        && Objects.equals(target.getContactNumber(), source.getContactNumber())
+                        && Objects.equals(target.getDesignation(), source.getDesignation())) {
+                    merged.add(target);
+                    continue;
+                }
+                changed = true;
+                target.setFirstName(source.getFirstName());
+                target.setLastName(source.getLastName());
+                target.setEmail(source.getEmail());
+                target.setContactNumber(source.getContactNumber());
+                target.setDesignation(source.getDesignation());
+                merged.add(target);
+            }
+        }
+        existing.getHrContacts().removeAll(current.values());
+        merged.stream()
+                .filter(hr -> hr.getId() == null)
+                .forEach(existing.getHrContacts()::add);
+        return changed || !current.isEmpty();
+    }
+
+    /**
+     * Takes the contact with the given email out of {@code contacts}, if any. A new contact that
+     * replaces a removed one with the same email reuses its row: Hibernate flushes INSERTs before
+     * DELETEs, which would break the unique (organisation_id, email) index.
+     */
+    private static OrganisationHr removeByEmail(Map<Long, OrganisationHr> contacts, String email) {
+        if (email == null) {
+            return null;
+        }
+        Iterator<OrganisationHr> it = contacts.values().iterator();
+        while (it.hasNext()) {
+            OrganisationHr hr = it.next();
+            if (email.equalsIgnoreCase(hr.getEmail())) {
+                it.remove();
+                return hr;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Clamps the page size, rejects sorts on unknown columns and appends {@code id} as a
+     * tie-breaker so that rows with equal sort keys never shift between pages.
+     */
+    private Pageable sanitise(Pageable pageable) {
+        int size = pageable.isPaged() ? Math.min(Math.max(pageable.getPageSize(), 1), MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+        int page = pageable.isPaged() ? pageable.getPageNumber() : 0;
+
+        Sort sort = pageable.getSort();
+        for (Sort.Order order : sort) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Unsupported sort property: " + order.getProperty());
+            }
+        }
+        if (sort.getOrderFor("id") == null) {
+            sort = sort.and(Sort.by(Sort.Direction.ASC, "id"));
+        }
+        return PageRequest.of(page, size, sort);
+    }
+}
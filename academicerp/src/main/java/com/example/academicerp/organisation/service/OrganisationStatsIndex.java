@@ -0,0 +1,98 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.dto.OrganisationFacts;
+import com.example.academicerp.organisation.dto.OrganisationStats;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counters behind {@link OrganisationStats}, kept current one organisation at a time.
+ * <p>
+ * The counted facts of every organisation are remembered, so putting an organisation moves it
+ * from its old buckets to its new ones and putting the same facts twice changes nothing. Not
+ * thread-safe; {@link OrganisationStatsService} serialises access.
+ */
+final class OrganisationStatsIndex {
+
+    private record Location(String country, String state, String city) {
+    }
+
+    private final Map<Long, OrganisationFacts> byId = new HashMap<>();
+    private final Map<String, Long> byIndustryType = new HashMap<>();
+    private final Map<String, Long> byCountry = new HashMap<>();
+    private final Map<Location, Long> byLocation = new HashMap<>();
+    private final Map<Long, Long> byHrContactCount = new HashMap<>();
+    private long active;
+    private long hrContacts;
+
+    void put(OrganisationFacts facts) {
+        OrganisationFacts previous = byId.put(facts.getId(), facts);
+        if (previous != null) {
+            count(previous, -1);
+        }
+        count(facts, 1);
+    }
+
+    void remove(Long id) {
+        OrganisationFacts previous = byId.remove(id);
+        if (previous != null) {
+            count(previous, -1);
+        }
+    }
+
+    int size() {
+        return byId.size();
+    }
+
+    OrganisationStats snapshot(Instant reconciledAt) {
+        List<OrganisationStats.LocationCount> locations = byLocation.entrySet().stream()
+                .sorted(Map.Entry.<Location, Long>comparingByValue().reversed())
+                .map(e -> new OrganisationStats.LocationCount(
+                        e.getKey().country(), e.getKey().state(), e.getKey().city(), e.getValue()))
+                .toList();
+        Map<Long, Long> contacts = new LinkedHashMap<>();
+        byHrContactCount.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> contacts.put(e.getKey(), e.getValue()));
+        return new OrganisationStats(byId.size(), active, byId.size() - active, hrContacts,
+                largestFirst(byIndustryType), largestFirst(byCountry), locations, contacts, reconciledAt);
+    }
+
+    private void count(OrganisationFacts facts, long delta) {
+        add(byIndustryType, orUnspecified(facts.getIndustryType()), delta);
+        add(byCountry, orUnspecified(facts.getCountry()), delta);
+        add(byLocation, new Location(orUnspecified(facts.getCountry()), orUnspecified(facts.getState()),
+                orUnspecified(facts.getCity())), delta);
+        long contacts = facts.getHrContacts() == null ? 0 : facts.getHrContacts();
+        add(byHrContactCount, contacts, delta);
+        hrContacts += contacts * delta;
+        if (Boolean.TRUE.equals(facts.getIsActive())) {
+            active += delta;
+        }
+    }
+
+    private static <K> void add(Map<K, Long> counts, K key, long delta) {
+        // Buckets that drop to zero are removed, so the breakdowns only list values in use
+        counts.compute(key, (k, count) -> {
+            long updated = (count == null ? 0 : count) + delta;
+            return updated == 0 ? null : updated;
+        });
+    }
+
+    private static Map<String, Long> largestFirst(Map<String, Long> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(e -> sorted.put(e.getKey(), e.getValue()));
+        return sorted;
+    }
+
+    private static String orUnspecified(String value) {
+        return value == null || value.isBlank() ? OrganisationStats.UNSPECIFIED : value;
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.dto.OrganisationChange;
+import com.example.academicerp.organisation.dto.OrganisationFacts;
+import com.example.academicerp.organisation.dto.OrganisationStats;
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.repository.OrganisationChangeRepository;
+import com.example.academicerp.organisation.repository.OrganisationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Organisation statistics for dashboards, served from in-memory counters so a read never scans
+ * {@code organisations} or {@code organisation_hr}.
+ * <p>
+ * The counters are recounted with one grouped query once the application is ready and then every
+ * {@code organisation.stats.reconcile-interval}. In between, commits on this node are applied as
+ * they happen and commits on other nodes are picked up from the change outbox. A recount starts
+ * from the last settled outbox position read before it, so writes that race with it, including
+ * ones that commit out of position order, are applied again afterwards; applying an organisation
+ * twice is harmless. The statistics are built once per
+ * change and shared by all reads until the next one.
+ */
+@Slf4j
+@Service
+public class OrganisationStatsService {
+
+    private final OrganisationRepository organisationRepository;
+    private final OrganisationChangeRepository changeRepository;
+    /** Reads on the primary: the outbox may already list changes a replica has not applied yet. */
+    private final TransactionTemplate primaryTransaction;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Value("${organisation.changes.settle-time}")
+    private Duration settleTime;
+
+    @Value("${organisation.stats.poll-batch-size:500}")
+    private int pollBatchSize = 500;
+
+    /** Guarded by lock, like position and reconciledAt. */
+    private OrganisationStatsIndex index = new OrganisationStatsIndex();
+    /** Last outbox position applied; -1 until the first recount. */
+    private long position = -1;
+    private Instant reconciledAt;
+    private volatile OrganisationStats current;
+
+    public OrganisationStatsService(OrganisationRepository organisationRepository,
+                                    OrganisationChangeRepository changeRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.organisationRepository = organisationRepository;
+        this.changeRepository = changeRepository;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        // Also runs from after-commit callbacks, where the finished transaction must not be joined
+        this.primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public OrganisationStats stats() {
+        OrganisationStats stats = current;
+        if (stats != null) {
+            return stats;
+        }
+        lock.lock();
+        try {
+            if (position < 0) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Organisation statistics are still being counted");
+            }
+            if (current == null) {
+                current = index.snapshot(reconciledAt);
+            }
+            return current;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Recounts everything and swaps the result in; reads keep the previous counts meanwhile. */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${organisation.stats.reconcile-interval:PT1H}",
+            initialDelayString = "${organisation.stats.reconcile-interval:PT1H}")
+    public void reconcile() {
+        long started = System.nanoTime();
+        // Not MAX(id): a lower position still uncommitted would be skipped by every later poll
+        Long latest = changeRepository.latestSettledPosition(Instant.now().minus(settleTime));
+        OrganisationStatsIndex fresh = new OrganisationStatsIndex();
+        primaryTransaction.executeWithoutResult(status -> {
+            try (Stream<OrganisationFacts> rows = organisationRepository.streamFacts()) {
+                rows.forEach(fresh::put);
+            }
+        });
+
+        lock.lock();
+        try {
+            index = fresh;
+            position = latest == null ? 0 : latest;
+            reconciledAt = Instant.now();
+            current = null;
+        } finally {
+            lock.unlock();
+        }
+        log.info("Organisation statistics counted over {} organisations in {} ms",
+                fresh.size(), (System.nanoTime() - started) / 1_000_000);
+        poll();
+    }
+
+    /** Applies changes committed on any node since the last poll. */
+    @Scheduled(fixedDelayString = "${organisation.stats.poll-interval:PT2S}")
+    public void poll() {
+        try {
+            List<OrganisationChange> changes;
+            do {
+                long from = polledPosition();
+                if (from < 0) {
+                    return;
+                }
+                changes = changeRepository.findSettledAfter(from, Instant.now().minus(settleTime), pollBatchSize);
+                if (changes.isEmpty()) {
+                    return;
+                }
+                Set<Long> ids = changes.stream()
+                        .map(OrganisationChange::getOrganisationId)
+                        .collect(Collectors.toCollection(LinkedHashSet::new));
+                Map<Long, OrganisationFacts> facts = primaryTransaction.execute(status ->
+                        organisationRepository.findFactsByIdIn(ids).stream()
+                                .collect(Collectors.toMap(OrganisationFacts::getId, Function.identity())));
+                long to = changes.get(changes.size() - 1).getPosition();
+
+                lock.lock();
+                try {
+                    // A recount finished meanwhile and already covers these changes
+                    if (position != from) {
+                        return;
+                    }
+                    for (Long id : ids) {
+                        OrganisationFacts fact = facts.get(id);
+                        if (fact == null) {
+                            index.remove(id);
+                        } else {
+                            index.put(fact);
+                        }
+                    }
+                    position = to;
+                    current = null;
+                } finally {
+                    lock.unlock();
+                }
+            } while (changes.size() == pollBatchSize);
+        } catch (DataAccessException e) {
+            log.warn("Reading organisation changes for the statistics failed: {}", e.getMessage());
+        }
+    }
+
+    /** Applies this node's own commits straight away instead of waiting for the next poll. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrganisationsChanged(OrganisationsChangedEvent event) {
+        lock.lock();
+        try {
+            switch (event.type()) {
+                // An organisation whose contacts were never loaded is left to the next poll
+                case SAVED -> event.saved().stream()
+                        .filter(org -> Hibernate.isInitialized(org.getHrContacts()))
+                        .forEach(org -> index.put(facts(org)));
+                case DELETED -> event.deletedIds().forEach(index::remove);
+            }
+            current = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long polledPosition() {
+        lock.lock();
+        try {
+            return position;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static OrganisationFacts facts(Organisation org) {
+        return new OrganisationFacts(org.getId(), org.getIndustryType(), org.getCountry(), org.getState(),
+                org.getCity(), org.getIsActive(), (long) org.getHrContacts().size());
+    }
+}
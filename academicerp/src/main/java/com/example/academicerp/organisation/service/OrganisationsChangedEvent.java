@@ -0,0 +1,30 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.entity.Organisation;
+
+import java.util.List;
+
+/**
+ * Published inside the writing transaction whenever organisations are created, changed or
+ * deleted. Listeners that maintain derived state should use
+ * {@code @TransactionalEventListener} so they only see committed changes.
+ */
+public record OrganisationsChangedEvent(Type type, List<Organisation> saved, List<Long> deletedIds) {
+
+    public enum Type {
+        SAVED,
+        DELETED
+    }
+
+    public static OrganisationsChangedEvent saved(List<Organisation> organisations) {
+        return new OrganisationsChangedEvent(Type.SAVED, List.copyOf(organisations), List.of());
+    }
+
+    public static OrganisationsChangedEvent deleted(Long id) {
+        return deleted(List.of(id));
+    }
+
+    public static OrganisationsChangedEvent deleted(List<Long> ids) {
+        return new OrganisationsChangedEvent(Type.DELETED, List.of(), List.copyOf(ids));
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.academicerp.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the API requests in progress at a limit that follows the observed latency.
+ * <p>
+ * Every adjustment the limit shrinks by a tenth while the p99 latency of recent requests exceeds
+ * {@code latencyThreshold} or requests waited on average longer than {@code poolWaitThreshold}
+ * for a database connection; otherwise it grows by a twentieth while requests are being turned
+ * away or the limit is nearly used up. Requests beyond the limit are shed instead of queueing
+ * behind work the server is already too slow to finish.
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    static final String POOL_ACQUIRE_TIMER = "hikaricp.connections.acquire";
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final long poolWaitThresholdNanos;
+    private final MeterRegistry registry;
+    private final Timer latency;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+
+    /** Pool acquisitions seen at the previous adjustment; only touched by adjust(). */
+    private long acquireCount;
+    private double acquireNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold,
+                                      Duration poolWaitThreshold, Duration window, MeterRegistry registry) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= initial <= max");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.poolWaitThresholdNanos = poolWaitThreshold.toNanos();
+        this.registry = registry;
+        this.latency = Timer.builder("api.admission.latency")
+                .description("Latency of admitted API requests, as seen by the concurrency limit")
+                .publishPercentiles(0.99)
+                .distributionStatisticExpiry(window)
+                .distributionStatisticBufferLength(2)
+                .register(registry);
+        Gauge.builder("api.admission.concurrency.limit", this, AdaptiveConcurrencyLimiter::limit)
+                .description("API requests allowed in progress at once")
+                .register(registry);
+        Gauge.builder("api.admission.concurrency.in.flight", inFlight, AtomicInteger::get)
+                .description("API requests in progress")
+                .register(registry);
+    }
+
+    /** Claims a slot; every successful call must be followed by {@link #release}. */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Frees a slot. {@code elapsedNanos} is counted towards the latency the limit follows; pass
+     * a negative value for requests that are slow by design, such as exports.
+     */
+    public void release(long elapsedNanos) {
+        inFlight.decrementAndGet();
+        if (elapsedNanos >= 0) {
+            latency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    @Scheduled(fixedDelayString = "${api.admission.concurrency.adjust-interval}")
+    public void adjust() {
+        double p99 = p99Nanos();
+        double poolWait = poolWaitNanos();
+        boolean turnedAway = rejected.sumThenReset() > 0;
+        int current = limit;
+        if (p99 > latencyThresholdNanos || poolWait > poolWaitThresholdNanos) {
+            limit = Math.max(minLimit, current - Math.max(1, current / 10));
+            if (limit != current) {
+                log.debug("API concurrency limit lowered to {} (p99 {} ms, pool wait {} ms)",
+                        limit, (long) (p99 / 1_000_000), (long) (poolWait / 1_000_000));
+            }
+        } else if (turnedAway || inFlight.get() * 5 >= current * 4) {
+            limit = Math.min(maxLimit, current + Math.max(1, current / 20));
+        }
+    }
+
+    private double p99Nanos() {
+        for (ValueAtPercentile value : latency.takeSnapshot().percentileValues()) {
+            return value.value(TimeUnit.NANOSECONDS);
+        }
+        return 0;
+    }
+
+    /** Average wait for a connection, over all pools, since the previous adjustment. */
+    private double poolWaitNanos() {
+        long count = 0;
+        double total = 0;
+        for (Timer timer : registry.find(POOL_ACQUIRE_TIMER).timers()) {
+            count += timer.count();
+            total += timer.totalTime(TimeUnit.NANOSECONDS);
+        }
+        long acquired = count - acquireCount;
+        double waited = total - acquireNanos;
+        acquireCount = count;
+        acquireNanos = total;
+        return acquired > 0 ? waited / acquired : 0;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.academicerp.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control for {@code /api/**}, run in the security filter chains once the caller is
+ * known.
+ * <p>
+ * Every caller has a token bucket per {@link Tier}: the signed-in user, or the client address for
+ * anonymous calls. A caller out of tokens gets 429 with {@code Retry-After}, without affecting
+ * anyone else. Requests that pass are then admitted by the {@link AdaptiveConcurrencyLimiter};
+ * when the server is overloaded they get 503 with {@code Retry-After}. Decisions are counted in
+ * {@code api.admission.requests}, tagged by tier and outcome.
+ */
+public class ApiAdmissionFilter extends OncePerRequestFilter {
+
+    /** Endpoints grouped by what a call costs the server. */
+    public enum Tier {
+        READ,
+        WRITE,
+        /** Imports, exports and bulk deletes, which each touch many rows. */
+        BULK;
+
+        private static final RequestMatcher BULK_ENDPOINTS = new OrRequestMatcher(
+                new AntPathRequestMatcher("/api/organisations", HttpMethod.DELETE.name()),
+                new AntPathRequestMatcher("/api/organisations/import", HttpMethod.POST.name()),
+                new AntPathRequestMatcher("/api/organisations/bulk-delete", HttpMethod.POST.name()),
+                new AntPathRequestMatcher("/api/organisations/export", HttpMethod.GET.name()));
+
+        static Tier of(HttpServletRequest request) {
+            if (BULK_ENDPOINTS.matches(request)) {
+                return BULK;
+            }
+            String method = request.getMethod();
+            return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) ? READ : WRITE;
+        }
+    }
+
+    private static final RequestMatcher API = new AntPathRequestMatcher("/api/**");
+    private static final long SHED_RETRY_AFTER_SECONDS = 1;
+
+    private final boolean enabled;
+    private final Map<Tier, TokenBucketRateLimiter> rateLimiters;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final Map<Tier, Map<Outcome, Counter>> decisions = new EnumMap<>(Tier.class);
+
+    private enum Outcome {
+        ADMITTED,
+        RATE_LIMITED,
+        SHED
+    }
+
+    public ApiAdmissionFilter(boolean enabled, Map<Tier, TokenBucketRateLimiter> rateLimiters,
+                              AdaptiveConcurrencyLimiter concurrencyLimiter, MeterRegistry registry) {
+        this.enabled = enabled;
+        this.rateLimiters = new EnumMap<>(rateLimiters);
+        this.concurrencyLimiter = concurrencyLimiter;
+        for (Tier tier : Tier.values()) {
+            if (!this.rateLimiters.containsKey(tier)) {
+                throw new IllegalArgumentException("No rate limit for " + tier);
+            }
+            Map<Outcome, Counter> counters = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                counters.put(outcome, Counter.builder("api.admission.requests")
+                        .description("API requests by admission decision")
+                        .tag("tier", tier.name().toLowerCase())
+                        .tag("outcome", outcome.name().toLowerCase())
+                        .register(registry));
+            }
+            decisions.put(tier, counters);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || HttpMethod.OPTIONS.matches(request.getMethod()) || !API.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Tier tier = Tier.of(request);
+        long wait = rateLimiters.get(tier).tryAcquire(caller(request));
+        if (wait > 0) {
+            decisions.get(tier).get(Outcome.RATE_LIMITED).increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, TimeUnit.NANOSECONDS.toSeconds(wait - 1) + 1,
+                    "Too many requests; slow down");
+            return;
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            decisions.get(tier).get(Outcome.SHED).increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, SHED_RETRY_AFTER_SECONDS,
+                    "The server is overloaded; try again shortly");
+            return;
+        }
+
+        decisions.get(tier).get(Outcome.ADMITTED).increment();
+        long started = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            // Bulk calls are slow by design and would make every other request look slow
+            concurrencyLimiter.release(tier == Tier.BULK ? -1 : System.nanoTime() - started);
+        }
+    }
+
+    private static String caller(HttpServletRequest request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || auth instanceof AnonymousAuthenticationToken || !auth.isAuthenticated()) {
+            return "address:" + request.getRemoteAddr();
+        }
+        return "user:" + auth.getName();
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds,
+                               String message) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.sendError(status.value(), message);
+    }
+}
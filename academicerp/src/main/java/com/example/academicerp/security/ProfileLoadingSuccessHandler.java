@@ -0,0 +1,36 @@
+package com.example.academicerp.security;
+
+import com.example.academicerp.auth.dto.UserProfile;
+import com.example.academicerp.auth.service.UserProfileService;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
+
+import java.io.IOException;
+
+/**
+ * Upserts the signed-in user and keeps their profile in the session, so {@code /api/auth/me}
+ * never has to look it up again, then redirects to the SPA.
+ */
+public class ProfileLoadingSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
+
+    private final UserProfileService userProfileService;
+
+    public ProfileLoadingSuccessHandler(UserProfileService userProfileService, String targetUrl) {
+        super(targetUrl);
+        setAlwaysUseDefaultTargetUrl(true);
+        this.userProfileService = userProfileService;
+    }
+
+    @Override
+    public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
+                                        Authentication authentication) throws IOException, ServletException {
+        UserProfileService.Identity identity = UserProfileService.identityOf(authentication.getPrincipal());
+        if (identity != null) {
+            request.getSession().setAttribute(UserProfile.SESSION_ATTRIBUTE, userProfileService.upsert(identity));
+        }
+        super.onAuthenticationSuccess(request, response, authentication);
+    }
+}
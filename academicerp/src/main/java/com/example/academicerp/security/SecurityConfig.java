@@ -1,11 +1,20 @@
 package com.example.academicerp.security;
 
+import com.example.academicerp.auth.service.UserProfileService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -16,8 +25,37 @@ import java.util.List;
 @EnableWebSecurity
 public class SecurityConfig {
 
+    /**
+     * API calls and metric scrapes carrying a bearer token are authenticated from the token
+     * alone: the Google ID token is verified locally against the cached key set, and no session
+     * is read or created.
+     */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    @Order(1)
+    public SecurityFilterChain bearerTokenFilterChain(HttpSecurity http, ApiAdmissionFilter apiAdmissionFilter)
+            throws Exception {
+        RequestMatcher bearerToken = request -> {
+            String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+            return authorization != null && authorization.regionMatches(true, 0, "Bearer ", 0, 7);
+        };
+        http
+            .securityMatcher(new AndRequestMatcher(
+                    new OrRequestMatcher(new AntPathRequestMatcher("/api/**"), new AntPathRequestMatcher("/actuator/**")),
+                    bearerToken))
+            .cors(Customizer.withDefaults())
+            .csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authorizeHttpRequests(auth -> auth.anyRequest().authenticated())
+            .oauth2ResourceServer(oauth -> oauth.jwt(Customizer.withDefaults()))
+            .addFilterBefore(apiAdmissionFilter, AuthorizationFilter.class);
+
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, UserProfileService userProfileService,
+                                                   ApiAdmissionFilter apiAdmissionFilter) throws Exception {
         http
             .cors(Customizer.withDefaults())
             .csrf(csrf -> csrf.disable())
@@ -31,26 +69,33 @@ public class SecurityConfig {
                         "/oauth2/**",
                         "/login/**",
                         "/error",
+                        "/api/auth/exchange",
                         // Swagger UI v3 (OpenAPI)
                         "/v3/api-docs/**",
                         "/swagger-ui/**",
                         "/swagger-ui.html",
                         "/swagger-resources/**",
                         "/v3/api-docs.yaml",
-                        "/webjars/**"
+                        "/webjars/**",
+                        // Status only, for load balancers; details are never shown
+                        "/actuator/health"
                 ).permitAll()
-                .requestMatchers("/api/**").authenticated()
+                // Metrics name every endpoint, error count and pool; never serve them anonymously
+                .requestMatchers("/api/**", "/actuator/**").authenticated()
                 .anyRequest().permitAll()
             )
             .oauth2Login(oauth -> oauth
-                .defaultSuccessUrl("http://localhost:5173/organisations", true)
+                .successHandler(new ProfileLoadingSuccessHandler(userProfileService,
+                        "http://localhost:5173/organisations"))
             )
             .logout(logout -> logout
                 .logoutUrl("/logout")
                 .logoutSuccessUrl("http://localhost:5173/login")
-                .deleteCookies("JSESSIONID")
+                .deleteCookies("SESSION")
                 .invalidateHttpSession(true)
-            );
+            )
+            // Limits callers once they are known, before anything else is done for them
+            .addFilterBefore(apiAdmissionFilter, AuthorizationFilter.class);
 
         return http.build();
     }
@@ -60,7 +105,9 @@ public class SecurityConfig {
         CorsConfiguration config = new CorsConfiguration();
         config.setAllowedOrigins(List.of("http://localhost:5173"));
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
-        config.setAllowedHeaders(List.of("Content-Type", "Authorization"));
+        config.setAllowedHeaders(List.of("Content-Type", "Authorization", "If-Match", "If-None-Match",
+                "If-Modified-Since", "Last-Event-ID"));
+        config.setExposedHeaders(List.of("ETag", "Last-Modified", "Location", "Retry-After"));
         config.setAllowCredentials(true);
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", config);
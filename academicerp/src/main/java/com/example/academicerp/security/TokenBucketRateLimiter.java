@@ -0,0 +1,61 @@
+package com.example.academicerp.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * A token bucket per key, holding up to {@code burst} tokens and refilled at
+ * {@code permitsPerSecond}.
+ * <p>
+ * Each bucket is a single {@code long}: the time at which it will be full again (the generic
+ * cell rate algorithm). Taking a token is one compare-and-set, so concurrent requests for the
+ * same key never block each other, and the buckets live in a bounded Caffeine map whose striping
+ * keeps different keys apart. A bucket idle for {@code idleTimeout} is dropped, which is the same
+ * as full as long as the timeout exceeds the time to refill a burst.
+ */
+public class TokenBucketRateLimiter {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final Cache<String, AtomicLong> buckets;
+    private final LongSupplier clock;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst, long maxKeys, Duration idleTimeout) {
+        this(permitsPerSecond, burst, maxKeys, idleTimeout, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(double permitsPerSecond, int burst, long maxKeys, Duration idleTimeout, LongSupplier clock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("A rate limit needs a positive rate and a burst of at least one");
+        }
+        this.intervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.buckets = Caffeine.newBuilder().maximumSize(maxKeys).expireAfterAccess(idleTimeout).build();
+        this.clock = clock;
+    }
+
+    /**
+     * Takes a token for {@code key}.
+     *
+     * @return 0 if a token was taken, otherwise the nanoseconds until one is available
+     */
+    public long tryAcquire(String key) {
+        AtomicLong bucket = buckets.get(key, k -> new AtomicLong(clock.getAsLong()));
+        while (true) {
+            long now = clock.getAsLong();
+            long fullAt = bucket.get();
+            long start = fullAt - now > 0 ? fullAt : now;
+            long wait = start - now - toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(fullAt, start + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+-- Schema as Hibernate generated it before migrations were introduced
+CREATE SEQUENCE organisations_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE organisation_hr_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE organisations (
+    is_active BOOLEAN,
+    created_at TIMESTAMP(6),
+    id BIGINT NOT NULL,
+    updated_at TIMESTAMP(6),
+    name VARCHAR(50) NOT NULL,
+    address VARCHAR(100),
+    city VARCHAR(255),
+    country VARCHAR(255),
+    industry_type VARCHAR(255),
+    pincode VARCHAR(255),
+    state VARCHAR(255),
+    website VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE organisation_hr (
+    created_at TIMESTAMP(6),
+    id BIGINT NOT NULL,
+    organisation_id BIGINT NOT NULL,
+    updated_at TIMESTAMP(6),
+    first_name VARCHAR(25) NOT NULL,
+    last_name VARCHAR(25),
+    email VARCHAR(50) NOT NULL,
+    contact_number VARCHAR(255) NOT NULL,
+    designation VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE organisation_hr ADD CONSTRAINT FKruikef9hg0lp23wx2smbafl7
+    FOREIGN KEY (organisation_id) REFERENCES organisations (id);
@@ -0,0 +1,2 @@
+-- Version for profile ETags
+ALTER TABLE users ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6);
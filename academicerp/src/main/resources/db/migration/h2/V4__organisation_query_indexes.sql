@@ -0,0 +1,10 @@
+-- Indexes for the organisation list filters and orderings (see the MySQL migration)
+CREATE INDEX ix_organisations_name ON organisations (name, id);
+CREATE INDEX ix_organisations_city_name ON organisations (city, name, id);
+CREATE INDEX ix_organisations_industry_type_name ON organisations (industry_type, name, id);
+CREATE INDEX ix_organisations_is_active_name ON organisations (is_active, name, id);
+CREATE INDEX ix_organisations_country_state ON organisations (country, state);
+CREATE INDEX ix_organisations_updated_at_id ON organisations (updated_at, id);
+
+CREATE UNIQUE INDEX ux_organisation_hr_organisation_id_email ON organisation_hr (organisation_id, email);
+CREATE INDEX ix_organisation_hr_email ON organisation_hr (email);
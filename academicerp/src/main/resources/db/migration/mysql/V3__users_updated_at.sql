@@ -0,0 +1,9 @@
+-- Version for profile ETags. Baselined databases may already have the column if Hibernate's
+-- ddl-auto=update added it, and MySQL has no ADD COLUMN IF NOT EXISTS.
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'users' AND column_name = 'updated_at') = 0,
+              'ALTER TABLE users ADD COLUMN updated_at DATETIME(6)',
+              'DO 0');
+PREPARE add_updated_at FROM @ddl;
+EXECUTE add_updated_at;
+DEALLOCATE PREPARE add_updated_at;
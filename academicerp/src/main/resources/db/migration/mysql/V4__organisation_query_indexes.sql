@@ -0,0 +1,19 @@
+-- Indexes for the organisation list filters and orderings. InnoDB appends the primary key to
+-- every secondary index, so each of these also serves the "..., id" tie-breaker.
+
+-- Default listing (sort=name) and namePrefix searches
+CREATE INDEX ix_organisations_name ON organisations (name);
+-- Equality filters, each ordered by name for the default sort
+CREATE INDEX ix_organisations_city_name ON organisations (city, name);
+CREATE INDEX ix_organisations_industry_type_name ON organisations (industry_type, name);
+CREATE INDEX ix_organisations_is_active_name ON organisations (is_active, name);
+CREATE INDEX ix_organisations_country_state ON organisations (country, state);
+-- Keyset scrolling in (updated_at, id) order
+CREATE INDEX ix_organisations_updated_at_id ON organisations (updated_at, id);
+
+-- One contact per email within an organisation. Fails if duplicates already exist; they have to
+-- be resolved by hand first. Its leading column also makes it the index for the foreign key, and
+-- InnoDB drops the one it created implicitly for the constraint.
+CREATE UNIQUE INDEX ux_organisation_hr_organisation_id_email ON organisation_hr (organisation_id, email);
+-- Contact lookups by email across organisations
+CREATE INDEX ix_organisation_hr_email ON organisation_hr (email);
@@ -0,0 +1,12 @@
+-- Organisation ids used to come from AUTO_INCREMENT. A database created back then and baselined
+-- at V1 has no sequence tables; one upgraded by Hibernate's ddl-auto=update got them starting
+-- at 1, which would hand out ids already taken. Hibernate's pooled optimizer uses
+-- next_val - 49 .. next_val (allocationSize 50), so the stored value must be at least
+-- MAX(id) + 50. Ids already allocated above that are kept.
+CREATE TABLE IF NOT EXISTS organisations_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO organisations_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM organisations_seq);
+UPDATE organisations_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM organisations));
+
+CREATE TABLE IF NOT EXISTS organisation_hr_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO organisation_hr_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM organisation_hr_seq);
+UPDATE organisation_hr_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM organisation_hr));
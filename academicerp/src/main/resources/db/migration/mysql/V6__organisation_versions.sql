@@ -0,0 +1,3 @@
+-- Optimistic locking: every UPDATE checks and increments the version the edit was based on
+ALTER TABLE organisations ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE organisation_hr ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
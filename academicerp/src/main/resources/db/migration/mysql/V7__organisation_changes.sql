@@ -0,0 +1,14 @@
+-- Transactional outbox: one row per organisation change, written in the changing transaction.
+-- AUTO_INCREMENT rather than a pooled sequence, so positions follow insert order across nodes
+-- and the changes feed can page by id.
+CREATE TABLE organisation_changes (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    organisation_id BIGINT NOT NULL,
+    change_type VARCHAR(10) NOT NULL,
+    version BIGINT,
+    changed_at TIMESTAMP(6) NOT NULL,
+    published_at TIMESTAMP(6) NULL,
+    PRIMARY KEY (id),
+    -- The publisher drains unpublished rows in id order; retention purges published ones by age
+    INDEX ix_organisation_changes_published_at (published_at, id)
+) ENGINE=InnoDB;
@@ -0,0 +1,130 @@
+package com.example.academicerp.auth.controller;
+
+import com.example.academicerp.auth.dto.UserProfile;
+import com.example.academicerp.auth.service.UserProfileService;
+import com.example.academicerp.repository.UserRepository;
+import com.example.academicerp.security.ProfileLoadingSuccessHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.core.oidc.user.DefaultOidcUser;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.oidcLogin;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthMeTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserProfileService userProfileService;
+
+    @SpyBean
+    private UserRepository userRepository;
+
+    @Test
+    void loginUpsertsTheUserAndStoresTheProfileInTheSession() throws Exception {
+        OidcUser user = oidcUser("Ada@Example.com", "Ada Lovelace");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new ProfileLoadingSuccessHandler(userProfileService, "http://localhost:5173/organisations")
+                .onAuthenticationSuccess(request, response, new TestingAuthenticationToken(user, null));
+
+        assertThat(response.getRedirectedUrl()).isEqualTo("http://localhost:5173/organisations");
+        UserProfile profile = (UserProfile) request.getSession().getAttribute(UserProfile.SESSION_ATTRIBUTE);
+        assertThat(profile.id()).isNotNull();
+        assertThat(profile.email()).isEqualTo("ada@example.com");
+        assertThat(userRepository.findByEmailIgnoreCase("ADA@example.com")).isPresent();
+
+        clearInvocations(userRepository);
+        MockHttpSession session = (MockHttpSession) request.getSession();
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/auth/me").session(session).with(oidcLogin().oidcUser(user)))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", profile.etag()))
+                    .andExpect(jsonPath("$.id").value(profile.id()))
+                    .andExpect(jsonPath("$.name").value("Ada Lovelace"));
+        }
+        verify(userRepository, never()).findByEmailIgnoreCase(anyString());
+    }
+
+    @Test
+    void bearerCallsLoadTheProfileOnceAndRevalidateWithoutABody() throws Exception {
+        JwtRequestPostProcessor token = jwt().jwt(jwt -> jwt.claim("email", "grace@example.com").claim("name", "Grace Hopper"));
+
+        MvcResult first = mockMvc.perform(get("/api/auth/me").with(token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andExpect(jsonPath("$.email").value("grace@example.com"))
+                .andReturn();
+        String etag = first.getResponse().getHeader("ETag");
+        assertThat(etag).isNotNull();
+
+        MvcResult revalidated = mockMvc.perform(get("/api/auth/me").with(token).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andReturn();
+        assertThat(revalidated.getResponse().getContentAsByteArray()).isEmpty();
+
+        mockMvc.perform(get("/api/auth/me").with(token)).andExpect(status().isOk());
+        verify(userRepository, times(1)).findByEmailIgnoreCase("grace@example.com");
+    }
+
+    @Test
+    void changedNameChangesTheETag() {
+        UserProfile before = userProfileService.upsert(new UserProfileService.Identity("alan@example.com", "Alan"));
+        UserProfile same = userProfileService.upsert(new UserProfileService.Identity("alan@example.com", "Alan"));
+        UserProfile after = userProfileService.upsert(new UserProfileService.Identity("alan@example.com", "Alan Turing"));
+
+        assertThat(same.etag()).isEqualTo(before.etag());
+        assertThat(after.id()).isEqualTo(before.id());
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(userProfileService.profile(new UserProfileService.Identity("alan@example.com", "Alan Turing")))
+                .isEqualTo(after);
+    }
+
+    @Test
+    void principalWithoutEmailIsUnauthorized() throws Exception {
+        mockMvc.perform(get("/api/auth/me").with(jwt()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private static OidcUser oidcUser(String email, String name) {
+        OidcIdToken idToken = OidcIdToken.withTokenValue("id-token")
+                .subject("42")
+                .claim("email", email)
+                .claim("name", name)
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(600))
+                .build();
+        return new DefaultOidcUser(List.of(), idToken);
+    }
+}
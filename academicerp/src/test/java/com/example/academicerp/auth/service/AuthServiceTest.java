@@ -0,0 +1,242 @@
+package com.example.academicerp.auth.service;
+
+import com.example.academicerp.auth.config.GoogleOAuthProperties;
+import com.example.academicerp.auth.config.GoogleTokenClientConfig;
+import com.example.academicerp.auth.dto.AuthTokenResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Drives the token exchange against a local stub of the Google token endpoint. */
+class AuthServiceTest {
+
+    private static final String TOKENS = "{\"access_token\":\"access\",\"expires_in\":\"3599\",\"id_token\":\"id\"}";
+
+    private record Reply(int status, String body, long delayMillis) {
+    }
+
+    private final Deque<Reply> replies = new ArrayDeque<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final ExecutorService stubExecutor = Executors.newCachedThreadPool();
+
+    private HttpServer stub;
+    private GoogleOAuthProperties props;
+    private HttpComponentsClientHttpRequestFactory requestFactory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(stubExecutor);
+        stub.createContext("/token", this::handle);
+        stub.start();
+
+        props = new GoogleOAuthProperties();
+        props.setClientId("client");
+        props.setClientSecret("secret");
+        props.setRedirectUri("http://localhost:5173/oauth/callback");
+        props.setTokenUri("http://127.0.0.1:" + stub.getAddress().getPort() + "/token");
+        GoogleOAuthProperties.TokenClient settings = props.getTokenClient();
+        settings.setReadTimeout(Duration.ofMillis(300));
+        settings.setRetryBackoff(Duration.ofMillis(10));
+        settings.setSlidingWindowSize(4);
+        settings.setMinimumNumberOfCalls(4);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (requestFactory != null) {
+            requestFactory.destroy();
+        }
+        stub.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Test
+    void exchangesCodeOverOneKeptAliveConnection() {
+        AuthService authService = authService();
+        for (int i = 0; i < 3; i++) {
+            reply(200, TOKENS, 0);
+            AuthTokenResponse tokens = authService.exchangeCodeForTokens("code-" + i);
+            assertThat(tokens.getAccess_token()).isEqualTo("access");
+            assertThat(tokens.getIdToken()).isEqualTo("id");
+        }
+        assertThat(requests).hasValue(3);
+        assertThat(clientPorts).hasSize(1);
+    }
+
+    @Test
+    void loginReturnsTheVerifiedIdToken() {
+        AuthService authService = authService();
+        reply(200, TOKENS, 0);
+        assertThat(authService.login("code").getToken()).isEqualTo("id");
+
+        reply(200, TOKENS.replace("\"id\"}", "\"forged\"}"), 0);
+        assertThatThrownBy(() -> authService.login("code"))
+                .isInstanceOfSatisfying(ResponseStatusException.class, ex ->
+                        assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_GATEWAY));
+    }
+
+    @Test
+    void retriesTransientFailuresWithBackoff() {
+        reply(503, "{}", 0);
+        reply(500, "{}", 0);
+        reply(200, TOKENS, 0);
+
+        assertThat(authService().exchangeCodeForTokens("code").getAccess_token()).isEqualTo("access");
+        assertThat(requests).hasValue(3);
+    }
+
+    @Test
+    void rejectedCodeIsNotRetried() {
+        reply(400, "{\"error\":\"invalid_grant\"}", 0);
+
+        assertThatThrownBy(() -> authService().exchangeCodeForTokens("used-code"))
+                .isInstanceOfSatisfying(ResponseStatusException.class, ex -> {
+                    assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+                    assertThat(ex.getReason()).contains("invalid_grant");
+                });
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void readTimeoutIsNotRetriedBecauseTheCodeMayAlreadyBeRedeemed() {
+        reply(200, TOKENS, 2_000);
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> authService().exchangeCodeForTokens("code"))
+                .isInstanceOfSatisfying(ResponseStatusException.class, ex ->
+                        assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_GATEWAY));
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(1));
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void refusedConnectionIsRetriedWithBackoff() {
+        props.getTokenClient().setRetryBackoff(Duration.ofMillis(200));
+        stub.stop(0);
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> authService().exchangeCodeForTokens("code"))
+                .isInstanceOfSatisfying(ResponseStatusException.class, ex ->
+                        assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_GATEWAY));
+        // Two waits of at least half the backoff each: 100 ms, then 200 ms
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isGreaterThanOrEqualTo(Duration.ofMillis(300));
+    }
+
+    @Test
+    void openCircuitFailsFastWithoutCallingTheEndpoint() {
+        props.getTokenClient().setMaxAttempts(1);
+        AuthService authService = authService();
+        for (int i = 0; i < 4; i++) {
+            reply(502, "{}", 0);
+            assertThatThrownBy(() -> authService.exchangeCodeForTokens("code"))
+                    .isInstanceOfSatisfying(ResponseStatusException.class, ex ->
+                            assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_GATEWAY));
+        }
+
+        assertThatThrownBy(() -> authService.exchangeCodeForTokens("code"))
+                .isInstanceOfSatisfying(ResponseStatusException.class, ex ->
+                        assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(requests).hasValue(4);
+    }
+
+    @Test
+    void bulkheadRejectsExchangesBeyondTheConcurrencyLimit() throws Exception {
+        props.getTokenClient().setMaxConnections(1);
+        props.getTokenClient().setMaxWait(Duration.ZERO);
+        props.getTokenClient().setReadTimeout(Duration.ofSeconds(2));
+        AuthService authService = authService();
+        reply(200, TOKENS, 500);
+
+        CountDownLatch started = new CountDownLatch(1);
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            Future<AuthTokenResponse> first = caller.submit(() -> {
+                started.countDown();
+                return authService.exchangeCodeForTokens("first");
+            });
+            started.await();
+            waitForRequests(1);
+
+            assertThatThrownBy(() -> authService.exchangeCodeForTokens("second"))
+                    .isInstanceOfSatisfying(ResponseStatusException.class, ex ->
+                            assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+            assertThat(first.get(5, TimeUnit.SECONDS).getAccess_token()).isEqualTo("access");
+        } finally {
+            caller.shutdownNow();
+        }
+        assertThat(requests).hasValue(1);
+    }
+
+    private AuthService authService() {
+        requestFactory = GoogleTokenClientConfig.requestFactory(props.getTokenClient());
+        return new AuthService(props, new RestTemplateBuilder(), requestFactory, token -> {
+            if (!token.equals("id")) {
+                throw new BadJwtException("Signature verification failed");
+            }
+            return Jwt.withTokenValue(token).header("alg", "RS256").subject("user").build();
+        });
+    }
+
+    private synchronized void reply(int status, String body, long delayMillis) {
+        replies.add(new Reply(status, body, delayMillis));
+    }
+
+    private synchronized Reply nextReply() {
+        return replies.isEmpty() ? new Reply(500, "{}", 0) : replies.poll();
+    }
+
+    private void waitForRequests(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (requests.get() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        exchange.getRequestBody().readAllBytes();
+        Reply reply = nextReply();
+        try {
+            Thread.sleep(reply.delayMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        byte[] body = reply.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(reply.status(), body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.academicerp.config;
+
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.repository.OrganisationRepository;
+import com.example.academicerp.organisation.service.OrganisationService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two embedded databases stand in for the MySQL primary and its replica. Nothing replicates
+ * between them, so where a row can be read from shows where a query went.
+ */
+@SpringBootTest(properties = {
+        "datasource.replica.url=" + DataSourceRoutingTest.REPLICA_URL,
+        "datasource.replica.username=sa",
+        "datasource.replica.password=",
+        "datasource.routing.read-your-writes-window=PT1M"
+})
+class DataSourceRoutingTest {
+
+    static final String REPLICA_URL =
+            "jdbc:h2:mem:academicerp-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORECASE=TRUE;DB_CLOSE_DELAY=-1";
+
+    static {
+        // A real replica gets its schema through replication
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").locations("classpath:db/migration/h2").load().migrate();
+    }
+
+    @Autowired
+    private OrganisationService organisationService;
+
+    @Autowired
+    private OrganisationRepository organisationRepository;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primary;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replica;
+
+    @AfterEach
+    void clearUser() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsReadFromTheReplica() {
+        new JdbcTemplate(replica).update(
+                "INSERT INTO organisations (id, name, address, is_active) VALUES (1000001, 'Replica only', 'x', TRUE)");
+
+        assertThat(organisationRepository.findById(1000001L)).get()
+                .extracting(Organisation::getName).isEqualTo("Replica only");
+        assertThat(count(primary, 1000001L)).isZero();
+    }
+
+    @Test
+    void cacheFillsAndConflictReadsUseThePrimary() {
+        new JdbcTemplate(replica).update(
+                "INSERT INTO organisations (id, name, address, is_active, version) VALUES (1000002, 'Stale', 'x', TRUE, 0)");
+        new JdbcTemplate(primary).update(
+                "INSERT INTO organisations (id, name, address, is_active, version) VALUES (1000002, 'Current', 'x', TRUE, 1)");
+        try {
+            assertThat(organisationService.getById(1000002L).getName()).isEqualTo("Current");
+            assertThat(organisationService.getLatest(1000002L).getName()).isEqualTo("Current");
+        } finally {
+            new JdbcTemplate(primary).update("DELETE FROM organisations WHERE id = 1000002");
+        }
+    }
+
+    @Test
+    void writesGoToThePrimary() {
+        Long id = organisationService.create(new Organisation("Primary only", "1 Main St")).getId();
+
+        assertThat(count(primary, id)).isEqualTo(1);
+        assertThat(count(replica, id)).isZero();
+        assertThat(organisationRepository.findById(id)).isEmpty();
+    }
+
+    @Test
+    void usersReadTheirOwnWritesFromThePrimary() {
+        actAs("officer");
+        Long id = organisationService.create(new Organisation("Just saved", "1 Main St")).getId();
+        assertThat(organisationRepository.findById(id)).isPresent();
+
+        actAs("someone-else");
+        assertThat(organisationRepository.findById(id)).isEmpty();
+    }
+
+    @Test
+    @DirtiesContext
+    void readsFallBackToThePrimaryWhenTheReplicaIsDown() {
+        Long id = organisationService.create(new Organisation("Failover", "1 Main St")).getId();
+        replica.close();
+
+        assertThat(organisationRepository.findById(id)).isPresent();
+        assertThat(organisationRepository.findById(id)).isPresent();
+    }
+
+    private static void actAs(String user) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(user, null, "ROLE_USER"));
+    }
+
+    private static int count(HikariDataSource dataSource, Long id) {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM organisations WHERE id = ?", Integer.class, id);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.academicerp.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser
+    void scrapeExposesLatencyHistogramsStatusesAndSqlCounts() throws Exception {
+        mockMvc.perform(get("/api/organisations")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/organisations/{id}", -1)).andExpect(status().isNotFound());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("http_server_requests_seconds_bucket{")
+                .containsPattern("http_server_requests_seconds_count\\{[^}]*status=\"404\"[^}]*uri=\"/api/organisations/\\{id\\}\"")
+                .containsPattern("http_server_requests_sql_statements_count\\{[^}]*uri=\"/api/organisations\"")
+                .contains("hikaricp_connections_acquire_seconds");
+    }
+
+    @Test
+    void anonymousScrapeIsRejected() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().is3xxRedirection());
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.academicerp.config;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.entity.OrganisationHr;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The production (MySQL) migrations, run on an embedded MariaDB: on an empty database, which the
+ * entities are validated against, and on a database in the state Hibernate left it in before
+ * there were migrations.
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MySqlMigrationTest {
+
+    private static final DB MARIADB = startMariaDb();
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> url("app"));
+        registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+        registry.add("spring.datasource.username", () -> "root");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    @AfterAll
+    static void stopMariaDb() throws ManagedProcessException {
+        MARIADB.stop();
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void emptyDatabaseIsMigratedToTheEntitySchema() {
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE success = 1 ORDER BY installed_rank", String.class))
+                .containsExactly("1", "2", "3", "4", "5", "6", "7");
+
+        Organisation org = new Organisation("Acme", "1 Main St");
+        org.addHrContact(new OrganisationHr("Jane", "Doe", "jane@acme.com", "9876543210"));
+        entityManager.persistAndFlush(org);
+        assertThat(org.getId()).isPositive();
+    }
+
+    @Test
+    void organisationQueriesUseTheIndexes() {
+        for (int i = 0; i < 300; i++) {
+            Organisation org = new Organisation("Org " + i, null);
+            org.setCity("City " + i % 30);
+            org.setIndustryType("Industry " + i % 20);
+            org.setIsActive(i % 2 == 0);
+            org.addHrContact(new OrganisationHr("HR", null, "hr" + i + "@example.com", "9876543210"));
+            entityManager.persist(org);
+        }
+        entityManager.flush();
+
+        assertThat(indexUsedBy("SELECT id FROM organisations WHERE city = 'City 3' ORDER BY name, id LIMIT 20"))
+                .isEqualTo("ix_organisations_city_name");
+        assertThat(indexUsedBy("SELECT id FROM organisations WHERE industry_type = 'Industry 4' ORDER BY name, id LIMIT 20"))
+                .isEqualTo("ix_organisations_industry_type_name");
+        assertThat(indexUsedBy("SELECT id FROM organisations WHERE name LIKE 'Org 12%' ORDER BY name, id"))
+                .isEqualTo("ix_organisations_name");
+        assertThat(indexUsedBy("SELECT id FROM organisation_hr WHERE email = 'hr7@example.com'"))
+                .isEqualTo("ix_organisation_hr_email");
+        assertThat(indexUsedBy("SELECT id FROM organisation_hr WHERE organisation_id = 1"))
+                .isEqualTo("ux_organisation_hr_organisation_id_email");
+    }
+
+    @Test
+    void contactEmailsAreUniquePerOrganisation() {
+        Long first = entityManager.persistAndFlush(new Organisation("First", null)).getId();
+        Long second = entityManager.persistAndFlush(new Organisation("Second", null)).getId();
+        String insert = "INSERT INTO organisation_hr (id, organisation_id, first_name, email, contact_number) VALUES (?, ?, 'HR', ?, '9876543210')";
+
+        jdbcTemplate.update(insert, 1_000_001, first, "hr@acme.com");
+        jdbcTemplate.update(insert, 1_000_002, second, "hr@acme.com");
+        assertThatThrownBy(() -> jdbcTemplate.update(insert, 1_000_003, first, "HR@acme.com"))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    void hibernateCreatedDatabaseIsBaselinedAndUpgraded() throws IOException {
+        DriverManagerDataSource legacy = new DriverManagerDataSource(url("legacy"), "root", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/legacy/mysql-identity-schema.sql")).execute(legacy);
+        JdbcTemplate legacyJdbc = new JdbcTemplate(legacy);
+        // Ids handed out by AUTO_INCREMENT before the sequences existed
+        legacyJdbc.update("INSERT INTO organisations (name) VALUES ('Old')");
+        legacyJdbc.update("INSERT INTO organisations (id, name) VALUES (120, 'Older')");
+        legacyJdbc.update("INSERT INTO organisation_hr (id, organisation_id, first_name, email, contact_number) "
+                + "VALUES (75, 120, 'HR', 'hr@older.com', '9876543210')");
+        legacyJdbc.update("INSERT INTO users (email, name) VALUES ('jane@example.com', 'Jane')");
+
+        Properties defaults = PropertiesLoaderUtils.loadProperties(new ClassPathResource("flyway.properties"));
+        MigrateResult result = Flyway.configure()
+                .dataSource(legacy)
+                .locations("classpath:db/migration/mysql")
+                .baselineOnMigrate(Boolean.parseBoolean(defaults.getProperty("spring.flyway.baseline-on-migrate")))
+                .baselineVersion(defaults.getProperty("spring.flyway.baseline-version"))
+                .load()
+                .migrate();
+
+        assertThat(result.migrations).extracting(migration -> migration.version)
+                .containsExactly("2", "3", "4", "5", "6", "7");
+        // The pooled optimizer hands out next_val - 49 .. next_val, all of which must be free
+        assertThat(legacyJdbc.queryForObject("SELECT next_val FROM organisations_seq", Long.class))
+                .isGreaterThanOrEqualTo(120 + 50);
+        assertThat(legacyJdbc.queryForObject("SELECT COUNT(*) FROM organisations_seq", Integer.class)).isOne();
+        assertThat(legacyJdbc.queryForObject("SELECT next_val FROM organisation_hr_seq", Long.class))
+                .isGreaterThanOrEqualTo(75 + 50);
+        assertThat(legacyJdbc.queryForList("SELECT updated_at FROM users")).hasSize(1);
+        assertThat(legacyJdbc.queryForList(
+                "SELECT DISTINCT index_name FROM information_schema.statistics "
+                        + "WHERE table_schema = 'legacy' AND table_name = 'organisation_hr'", String.class))
+                .containsExactlyInAnyOrder("PRIMARY", "ux_organisation_hr_organisation_id_email", "ix_organisation_hr_email");
+        assertThat(legacyJdbc.queryForObject("SELECT COUNT(*) FROM SPRING_SESSION", Integer.class)).isZero();
+    }
+
+    private String indexUsedBy(String query) {
+        List<String> keys = jdbcTemplate.query("EXPLAIN " + query, (rs, row) -> rs.getString("key"));
+        return keys.get(0);
+    }
+
+    private static String url(String database) {
+        return "jdbc:mysql://localhost:" + MARIADB.getConfiguration().getPort() + "/" + database
+                + "?createDatabaseIfNotExist=true";
+    }
+
+    private static DB startMariaDb() {
+        try {
+            DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+            config.setPort(0);
+            if ("root".equals(System.getProperty("user.name"))) {
+                // mariadbd refuses to run as root unless told to
+                config.addArg("--user=root");
+            }
+            DB db = DB.newEmbeddedDB(config.build());
+            db.start();
+            return db;
+        } catch (ManagedProcessException e) {
+            throw new IllegalStateException("Could not start the embedded MariaDB", e);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.academicerp.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.Session;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SessionStoreTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcIndexedSessionRepository jdbcRepository;
+    private NearCachingSessionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM SPRING_SESSION");
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        jdbcRepository = new JdbcIndexedSessionRepository(jdbcTemplate, transactionTemplate);
+        repository = node();
+    }
+
+    @Test
+    void requestsThatOnlyReadAreServedFromMemoryWithoutWrites() {
+        String id = createSession("user", "jane");
+        long storedAccess = lastAccessTime(id);
+
+        for (int i = 1; i <= 3; i++) {
+            NearCachingSessionRepository.CachedSession session = repository.findById(id);
+            session.setLastAccessedTime(session.getLastAccessedTime().plusSeconds(10));
+            assertThat((String) session.getAttribute("user")).isEqualTo("jane");
+            repository.save(session);
+        }
+        assertThat(lastAccessTime(id)).isEqualTo(storedAccess);
+
+        // Gone from the database, still answered from memory: no query was made
+        jdbcTemplate.update("DELETE FROM SPRING_SESSION");
+        assertThat((String) repository.findById(id).getAttribute("user")).isEqualTo("jane");
+    }
+
+    @Test
+    void accessTimeIsWrittenOncePerTouchInterval() {
+        String id = createSession("user", "jane");
+        Instant later = repository.findById(id).getLastAccessedTime().plus(Duration.ofMinutes(2));
+
+        NearCachingSessionRepository.CachedSession session = repository.findById(id);
+        session.setLastAccessedTime(later);
+        repository.save(session);
+
+        assertThat(lastAccessTime(id)).isEqualTo(later.toEpochMilli());
+        assertThat(repository.findById(id).getLastAccessedTime()).isEqualTo(later);
+    }
+
+    @Test
+    void changesArePersistedAndReachOtherNodes() {
+        String id = createSession("user", "jane");
+        NearCachingSessionRepository other = node();
+        assertThat(other.findById(id).getAttributeNames()).containsExactly("user");
+
+        NearCachingSessionRepository.CachedSession session = repository.findById(id);
+        session.setAttribute("role", "admin");
+        repository.save(session);
+
+        Session stored = jdbcRepository.findById(id);
+        assertThat((String) stored.getAttribute("role")).isEqualTo("admin");
+        assertThat((String) repository.findById(id).getAttribute("role")).isEqualTo("admin");
+        assertThat((String) node().findById(id).getAttribute("role")).isEqualTo("admin");
+    }
+
+    @Test
+    void changedSessionIdReplacesTheOldOne() {
+        String id = createSession("user", "jane");
+        NearCachingSessionRepository.CachedSession session = repository.findById(id);
+        String newId = session.changeSessionId();
+        repository.save(session);
+
+        assertThat(repository.findById(id)).isNull();
+        assertThat((String) repository.findById(newId).getAttribute("user")).isEqualTo("jane");
+    }
+
+    @Test
+    void deletedSessionIsGoneEverywhere() {
+        String id = createSession("user", "jane");
+        repository.findById(id);
+
+        repository.deleteById(id);
+
+        assertThat(repository.findById(id)).isNull();
+        assertThat(jdbcRepository.findById(id)).isNull();
+    }
+
+    @Test
+    void cleanerDeletesExpiredSessionsInBatches() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        for (int i = 0; i < 25; i++) {
+            insertSession(now.minusSeconds(60));
+        }
+        String live = insertSession(now.plusSeconds(600));
+
+        int deleted = new ExpiredSessionCleaner(jdbcTemplate, 10).deleteExpired(now);
+
+        assertThat(deleted).isEqualTo(25);
+        assertThat(jdbcTemplate.queryForList("SELECT PRIMARY_ID FROM SPRING_SESSION", String.class))
+                .containsExactly(live);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM SPRING_SESSION_ATTRIBUTES", Integer.class))
+                .isEqualTo(1);
+    }
+
+    private NearCachingSessionRepository node() {
+        return new NearCachingSessionRepository(jdbcRepository, Duration.ofMinutes(1), 100, Duration.ofMinutes(1));
+    }
+
+    private String createSession(String attribute, Object value) {
+        Session session = repository.createSession();
+        session.setAttribute(attribute, value);
+        repository.save((NearCachingSessionRepository.CachedSession) session);
+        return session.getId();
+    }
+
+    private long lastAccessTime(String id) {
+        return jdbcTemplate.queryForObject("SELECT LAST_ACCESS_TIME FROM SPRING_SESSION WHERE SESSION_ID = ?",
+                Long.class, id);
+    }
+
+    private String insertSession(Instant expiry) {
+        String primaryId = UUID.randomUUID().toString();
+        long millis = expiry.toEpochMilli();
+        jdbcTemplate.update("INSERT INTO SPRING_SESSION VALUES (?, ?, ?, ?, ?, ?, NULL)",
+                primaryId, UUID.randomUUID().toString(), millis - 1_800_000, millis - 1_800_000, 1800, millis);
+        jdbcTemplate.update("INSERT INTO SPRING_SESSION_ATTRIBUTES VALUES (?, ?, ?)",
+                primaryId, "user", new byte[] {1});
+        return primaryId;
+    }
+}
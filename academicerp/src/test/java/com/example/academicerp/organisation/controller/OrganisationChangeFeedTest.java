@@ -0,0 +1,180 @@
+package com.example.academicerp.organisation.controller;
+
+import com.example.academicerp.organisation.dto.BulkDeleteRequest;
+import com.example.academicerp.organisation.dto.OrganisationChange;
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.entity.OrganisationHr;
+import com.example.academicerp.organisation.repository.OrganisationChangeRepository;
+import com.example.academicerp.organisation.service.InMemoryOrganisationChangeSink;
+import com.example.academicerp.organisation.service.OrganisationChangePublisher;
+import com.example.academicerp.organisation.service.OrganisationConflictException;
+import com.example.academicerp.organisation.service.OrganisationService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/** Downstream systems syncing from the change outbox instead of re-reading every organisation. */
+@SpringBootTest
+@AutoConfigureMockMvc
+class OrganisationChangeFeedTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OrganisationService organisationService;
+
+    @Autowired
+    private OrganisationChangeRepository changeRepository;
+
+    @Autowired
+    private OrganisationChangePublisher publisher;
+
+    @Autowired
+    private InMemoryOrganisationChangeSink sink;
+
+    @Test
+    void feedServesTheLatestChangeOfEachOrganisationAfterTheCursor() throws Exception {
+        long head = changes(null).get("next").asLong();
+
+        Organisation kept = organisationService.create(organisation("Kept"));
+        organisationService.patch(kept.getId(), objectMapper.createObjectNode().put("name", "Kept Ltd"), null);
+        Long dropped = organisationService.create(organisation("Dropped")).getId();
+        organisationService.delete(dropped, null);
+
+        JsonNode feed = changes(head);
+        JsonNode changes = feed.get("changes");
+        assertThat(changes).hasSize(2);
+        assertThat(changes.get(0).get("organisationId").asLong()).isEqualTo(kept.getId());
+        assertThat(changes.get(0).get("type").asText()).isEqualTo("SAVED");
+        assertThat(changes.get(0).get("version").asLong()).isEqualTo(kept.getVersion() + 1);
+        assertThat(changes.get(0).get("organisation").get("name").asText()).isEqualTo("Kept Ltd");
+        assertThat(changes.get(0).get("organisation").get("hrContacts")).hasSize(1);
+        assertThat(changes.get(1).get("organisationId").asLong()).isEqualTo(dropped);
+        assertThat(changes.get(1).get("type").asText()).isEqualTo("DELETED");
+        assertThat(changes.get(1).get("organisation").isNull()).isTrue();
+        assertThat(feed.get("hasMore").asBoolean()).isFalse();
+
+        long next = feed.get("next").asLong();
+        assertThat(next).isEqualTo(changes.get(1).get("position").asLong());
+        JsonNode caughtUp = changes(next);
+        assertThat(caughtUp.get("changes")).isEmpty();
+        assertThat(caughtUp.get("next").asLong()).isEqualTo(next);
+    }
+
+    @Test
+    void feedPagesWithLimit() throws Exception {
+        long head = changes(null).get("next").asLong();
+        for (int i = 0; i < 3; i++) {
+            organisationService.create(organisation("Paged " + i));
+        }
+
+        JsonNode first = changes(head, 2);
+        assertThat(first.get("changes")).hasSize(2);
+        assertThat(first.get("hasMore").asBoolean()).isTrue();
+        JsonNode second = changes(first.get("next").asLong(), 2);
+        assertThat(second.get("changes")).hasSize(1);
+        assertThat(second.get("changes").get(0).get("organisation").get("name").asText()).isEqualTo("Paged 2");
+        assertThat(second.get("hasMore").asBoolean()).isFalse();
+    }
+
+    @Test
+    void rolledBackWriteRecordsNothing() {
+        Organisation org = organisationService.create(organisation("Stale"));
+        Long before = changeRepository.latestPosition();
+
+        Organisation stale = new Organisation("Stale edit", null);
+        stale.setVersion(org.getVersion() - 1);
+        assertThatThrownBy(() -> organisationService.update(org.getId(), stale, null))
+                .isInstanceOf(OrganisationConflictException.class);
+
+        assertThat(changeRepository.latestPosition()).isEqualTo(before);
+    }
+
+    @Test
+    void bulkDeleteRecordsEachDeletedOrganisation() {
+        Long first = organisationService.create(organisation("Bulk 1")).getId();
+        Long second = organisationService.create(organisation("Bulk 2")).getId();
+        long head = changeRepository.latestPosition();
+
+        BulkDeleteRequest criteria = new BulkDeleteRequest();
+        criteria.setIds(List.of(first, second));
+        organisationService.deleteMatching(criteria);
+
+        assertThat(changeRepository.findAfter(head, 10))
+                .extracting(OrganisationChange::getOrganisationId, OrganisationChange::getType)
+                .containsExactly(
+                        tuple(first, OrganisationChange.Type.DELETED),
+                        tuple(second, OrganisationChange.Type.DELETED));
+    }
+
+    @Test
+    void publisherDeliversPendingChangesInOrderOnce() {
+        publisher.publishPending();
+        sink.clear();
+        List<Long> ids = List.of(
+                organisationService.create(organisation("Published 1")).getId(),
+                organisationService.create(organisation("Published 2")).getId(),
+                organisationService.create(organisation("Published 3")).getId());
+
+        assertThat(publisher.publishPending()).isEqualTo(3);
+        assertThat(publisher.publishPending()).isZero();
+
+        assertThat(sink.received()).extracting(OrganisationChange::getOrganisationId).containsExactlyElementsOf(ids);
+        assertThat(sink.received()).extracting(OrganisationChange::getPosition).isSorted();
+    }
+
+    @Test
+    void cursorOlderThanTheRetainedChangesIsGone() throws Exception {
+        organisationService.create(organisation("Old"));
+        organisationService.create(organisation("Newest"));
+        publisher.publishPending();
+        changeRepository.purgePublishedBefore(Instant.now().plus(1, ChronoUnit.DAYS), 100);
+
+        long newest = changeRepository.latestPosition();
+        assertThat(changeRepository.oldestPosition()).isEqualTo(newest);
+        mockMvc.perform(get("/api/organisations/changes").param("since", "0").with(user("officer")))
+                .andExpect(status().isGone());
+        assertThat(changes(newest - 1).get("changes")).hasSize(1);
+    }
+
+    private JsonNode changes(Long since) throws Exception {
+        return changes(since, 100);
+    }
+
+    private JsonNode changes(Long since, int limit) throws Exception {
+        var request = get("/api/organisations/changes").param("limit", String.valueOf(limit)).with(user("officer"));
+        if (since != null) {
+            request.param("since", String.valueOf(since));
+        }
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static Organisation organisation(String name) {
+        Organisation org = new Organisation(name, "1 Main St");
+        org.addHrContact(new OrganisationHr("Jane", "Doe", "jane@" + name.replace(" ", "").toLowerCase() + ".com",
+                "9876543210"));
+        return org;
+    }
+}
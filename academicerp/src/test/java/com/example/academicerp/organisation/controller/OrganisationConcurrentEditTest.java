@@ -0,0 +1,226 @@
+package com.example.academicerp.organisation.controller;
+
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.entity.OrganisationHr;
+import com.example.academicerp.organisation.service.OrganisationService;
+import com.example.academicerp.organisation.service.OrganisationsChangedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/** Placement officers editing the same organisation at once: no edit may silently overwrite another. */
+@SpringBootTest
+@AutoConfigureMockMvc
+class OrganisationConcurrentEditTest {
+
+    private static final int WRITERS = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OrganisationService organisationService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DeleteInterceptor deleteInterceptor;
+
+    private Long orgId;
+
+    @BeforeEach
+    void seed() {
+        Organisation org = new Organisation("Acme", "1 Main St");
+        org.addHrContact(new OrganisationHr("Jane", "Doe", "jane@acme.com", "9876543210"));
+        orgId = organisationService.create(org).getId();
+    }
+
+    @Test
+    void simultaneousEditsOfOneVersionLetExactlyOneWin() throws Exception {
+        JsonNode read = read();
+        CyclicBarrier start = new CyclicBarrier(WRITERS);
+
+        List<MockHttpServletResponse> responses = runConcurrently(writer -> {
+            ObjectNode edit = read.deepCopy();
+            edit.put("name", "Acme " + writer);
+            start.await(10, TimeUnit.SECONDS);
+            return write(edit);
+        });
+
+        List<MockHttpServletResponse> won = responses.stream().filter(r -> r.getStatus() == 200).toList();
+        List<MockHttpServletResponse> conflicts = responses.stream().filter(r -> r.getStatus() == 409).toList();
+        assertThat(won).hasSize(1);
+        assertThat(conflicts).hasSize(WRITERS - 1);
+
+        JsonNode stored = read();
+        assertThat(stored.get("version").asLong()).isEqualTo(read.get("version").asLong() + 1);
+        assertThat(stored.get("name").asText()).isEqualTo(json(won.get(0)).get("name").asText());
+        for (MockHttpServletResponse conflict : conflicts) {
+            JsonNode current = json(conflict).get("current");
+            assertThat(current.get("version").asLong()).isEqualTo(stored.get("version").asLong());
+            assertThat(conflict.getHeader("ETag")).isEqualTo("\"" + orgId + "-v" + current.get("version") + "\"");
+        }
+    }
+
+    @Test
+    void editsRetriedOnTheCurrentStateAreAllKept() throws Exception {
+        long initialVersion = read().get("version").asLong();
+
+        List<MockHttpServletResponse> responses = runConcurrently(writer -> {
+            JsonNode current = read();
+            for (int attempt = 0; attempt < 100; attempt++) {
+                ObjectNode edit = current.deepCopy();
+                ((ArrayNode) edit.get("hrContacts")).addObject()
+                        .put("firstName", "Writer" + writer)
+                        .put("email", "writer" + writer + "@acme.com")
+                        .put("contactNumber", "98765432" + String.format("%02d", writer));
+                MockHttpServletResponse response = write(edit);
+                if (response.getStatus() != 409) {
+                    return response;
+                }
+                // Merge onto the state that won and try again
+                current = json(response).get("current");
+            }
+            throw new AssertionError("Writer " + writer + " never got through");
+        });
+
+        assertThat(responses).allSatisfy(response -> assertThat(response.getStatus()).isEqualTo(200));
+        JsonNode stored = read();
+        assertThat(stored.get("hrContacts")).hasSize(WRITERS + 1);
+        assertThat(stored.get("version").asLong()).isEqualTo(initialVersion + WRITERS);
+    }
+
+    @Test
+    void editCommittedFirstFailsTheOtherAtCommit() {
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        TransactionTemplate concurrent = new TransactionTemplate(transactionManager);
+        concurrent.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        assertThatThrownBy(() -> outer.executeWithoutResult(status -> {
+            // Reads version 0 and passes every check, but is not flushed yet
+            organisationService.update(orgId, new Organisation("Mine", "1 Main St"), null);
+            concurrent.executeWithoutResult(inner ->
+                    organisationService.update(orgId, new Organisation("Theirs", "1 Main St"), null));
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(organisationService.getLatest(orgId).getName()).isEqualTo("Theirs");
+    }
+
+    @Test
+    void editCommittedDuringADeleteAnswersConflictWithTheCurrentState() throws Exception {
+        TransactionTemplate concurrent = new TransactionTemplate(transactionManager);
+        concurrent.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // Runs after the delete has checked the organisation, before its DELETE is flushed
+        deleteInterceptor.onDelete = () -> concurrent.executeWithoutResult(inner ->
+                organisationService.update(orgId, new Organisation("Theirs", "1 Main St"), null));
+        MockHttpServletResponse response;
+        try {
+            response = mockMvc.perform(delete("/api/organisations/{id}", orgId).with(user("officer")).with(csrf()))
+                    .andReturn().getResponse();
+        } finally {
+            deleteInterceptor.onDelete = null;
+        }
+
+        assertThat(response.getStatus()).isEqualTo(409);
+        assertThat(json(response).get("current").get("name").asText()).isEqualTo("Theirs");
+        assertThat(organisationService.getLatest(orgId).getName()).isEqualTo("Theirs");
+    }
+
+    private JsonNode read() throws Exception {
+        return json(mockMvc.perform(get("/api/organisations/{id}", orgId).with(user("officer")))
+                .andReturn().getResponse());
+    }
+
+    private MockHttpServletResponse write(JsonNode body) throws Exception {
+        return mockMvc.perform(put("/api/organisations/{id}", orgId)
+                        .with(user("officer"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(body)))
+                .andReturn().getResponse();
+    }
+
+    private JsonNode json(MockHttpServletResponse response) throws Exception {
+        return objectMapper.readTree(response.getContentAsString());
+    }
+
+    @TestConfiguration
+    static class DeleteInterceptorConfig {
+
+        @Bean
+        DeleteInterceptor deleteInterceptor() {
+            return new DeleteInterceptor();
+        }
+    }
+
+    static class DeleteInterceptor {
+
+        private volatile Runnable onDelete;
+
+        @EventListener
+        void onOrganisationsChanged(OrganisationsChangedEvent event) {
+            Runnable action = onDelete;
+            if (action != null && event.type() == OrganisationsChangedEvent.Type.DELETED) {
+                action.run();
+            }
+        }
+    }
+
+    private interface Writer {
+        MockHttpServletResponse run(int writer) throws Exception;
+    }
+
+    private static List<MockHttpServletResponse> runConcurrently(Writer writer) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Future<MockHttpServletResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                int id = i;
+                futures.add(pool.submit((Callable<MockHttpServletResponse>) () -> writer.run(id)));
+            }
+            List<MockHttpServletResponse> responses = new ArrayList<>();
+            for (Future<MockHttpServletResponse> future : futures) {
+                responses.add(future.get(60, TimeUnit.SECONDS));
+            }
+            return responses;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
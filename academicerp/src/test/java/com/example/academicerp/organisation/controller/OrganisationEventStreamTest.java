@@ -0,0 +1,87 @@
+package com.example.academicerp.organisation.controller;
+
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.repository.OrganisationChangeRepository;
+import com.example.academicerp.organisation.service.OrganisationEventBroadcaster;
+import com.example.academicerp.organisation.service.OrganisationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/** Officers in other tabs hear about changes instead of working on a stale list. */
+@SpringBootTest
+@AutoConfigureMockMvc
+class OrganisationEventStreamTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrganisationService organisationService;
+
+    @Autowired
+    private OrganisationChangeRepository changeRepository;
+
+    @Autowired
+    private OrganisationEventBroadcaster broadcaster;
+
+    @Test
+    void committedChangesArePushedToOpenStreams() throws Exception {
+        MockHttpServletResponse stream = open(get("/api/organisations/events"));
+
+        Organisation org = organisationService.create(new Organisation("Streamed", "1 Main St"));
+        organisationService.delete(org.getId(), null);
+        broadcaster.poll();
+
+        String saved = "{\"id\":" + org.getId() + ",\"op\":\"SAVED\",\"version\":0}";
+        String deleted = "{\"id\":" + org.getId() + ",\"op\":\"DELETED\",\"version\":null}";
+        String events = await(stream, deleted);
+        assertThat(events).containsPattern("event:organisation\nid:\\d+\ndata:" + saved.replace("{", "\\{"));
+        assertThat(events.indexOf(saved)).isLessThan(events.indexOf(deleted));
+    }
+
+    @Test
+    void reconnectingClientGetsTheChangesItMissed() throws Exception {
+        broadcaster.poll();
+        long lastSeen = changeRepository.latestPosition();
+        Organisation org = organisationService.create(new Organisation("Missed", "1 Main St"));
+        broadcaster.poll();
+
+        MockHttpServletResponse stream =
+                open(get("/api/organisations/events").header("Last-Event-ID", String.valueOf(lastSeen)));
+
+        await(stream, "{\"id\":" + org.getId() + ",\"op\":\"SAVED\",\"version\":0}");
+    }
+
+    private MockHttpServletResponse open(MockHttpServletRequestBuilder request) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(request.with(user("officer")))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+        // The stream is committed by its first event, written by a sender thread
+        await(response, ":open");
+        assertThat(response.getContentType()).isEqualTo("text/event-stream");
+        return response;
+    }
+
+    private static String await(MockHttpServletResponse stream, String expected) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        String content = stream.getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            content = stream.getContentAsString();
+        }
+        assertThat(content).contains(expected);
+        return content;
+    }
+}
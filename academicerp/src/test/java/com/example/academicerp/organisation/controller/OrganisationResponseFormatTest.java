@@ -0,0 +1,132 @@
+package com.example.academicerp.organisation.controller;
+
+import com.example.academicerp.config.ApiMediaTypes;
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.entity.OrganisationHr;
+import com.example.academicerp.organisation.service.OrganisationService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/** The same organisations in every format the API negotiates through Accept. */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class OrganisationResponseFormatTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OrganisationService organisationService;
+
+    private String prefix;
+    private Long orgId;
+
+    @BeforeEach
+    void seed() {
+        prefix = "Format " + UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i < 20; i++) {
+            Organisation org = new Organisation(prefix + " " + i, i + " Industrial Estate");
+            org.setCity(i % 2 == 0 ? "Pune" : null);
+            org.setIndustryType("Technology");
+            org.addHrContact(new OrganisationHr("Jane", "Doe", "jane" + i + "@acme.com", "9876543210"));
+            orgId = organisationService.create(org).getId();
+        }
+    }
+
+    @Test
+    void columnarListingNamesEachFieldOnce() throws Exception {
+        byte[] json = list(MediaType.APPLICATION_JSON_VALUE);
+        MvcResult result = mockMvc.perform(get("/api/organisations").param("namePrefix", prefix)
+                        .accept(ApiMediaTypes.COLUMNAR_JSON_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(ApiMediaTypes.COLUMNAR_JSON))
+                .andReturn();
+        byte[] columnar = result.getResponse().getContentAsByteArray();
+
+        JsonNode page = objectMapper.readTree(json);
+        JsonNode table = objectMapper.readTree(columnar);
+        assertThat(table.has("content")).isFalse();
+        assertThat(table.get("totalElements")).isEqualTo(page.get("totalElements"));
+        List<String> columns = new ArrayList<>();
+        table.get("columns").forEach(column -> columns.add(column.asText()));
+        assertThat(columns).startsWith("id", "name", "city");
+        assertThat(table.get("rows")).hasSize(20);
+        for (int row = 0; row < 20; row++) {
+            for (int column = 0; column < columns.size(); column++) {
+                assertThat(table.get("rows").get(row).get(column))
+                        .isEqualTo(page.get("content").get(row).get(columns.get(column)));
+            }
+        }
+        assertThat(columnar.length).isLessThan(json.length * 2 / 3);
+    }
+
+    @Test
+    void columnarCursorSliceKeepsItsCursor() throws Exception {
+        JsonNode slice = objectMapper.readTree(mockMvc.perform(get("/api/organisations")
+                        .param("cursor", "").param("namePrefix", prefix).param("size", "5")
+                        .accept(ApiMediaTypes.COLUMNAR_JSON_VALUE))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray());
+
+        assertThat(slice.get("rows")).hasSize(5);
+        assertThat(slice.get("rows").get(0)).hasSize(slice.get("columns").size());
+        assertThat(slice.get("nextCursor").asText()).isNotEmpty();
+    }
+
+    @Test
+    void binaryFormatsCarryTheSameDocumentInFewerBytes() throws Exception {
+        byte[] json = list(MediaType.APPLICATION_JSON_VALUE);
+        byte[] smile = list(ApiMediaTypes.SMILE_VALUE);
+        byte[] cbor = list(MediaType.APPLICATION_CBOR_VALUE);
+
+        String expected = objectMapper.writeValueAsString(objectMapper.readTree(json));
+        assertThat(objectMapper.writeValueAsString(new ObjectMapper(new SmileFactory()).readTree(smile))).isEqualTo(expected);
+        assertThat(objectMapper.writeValueAsString(new ObjectMapper(new CBORFactory()).readTree(cbor))).isEqualTo(expected);
+        assertThat(smile.length).isLessThan(json.length);
+        assertThat(cbor.length).isLessThan(json.length);
+    }
+
+    @Test
+    void singleOrganisationIsNegotiatedToo() throws Exception {
+        mockMvc.perform(get("/api/organisations/{id}", orgId).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().stringValues(HttpHeaders.VARY, org.hamcrest.Matchers.hasItem("Accept")));
+
+        mockMvc.perform(get("/api/organisations/{id}", orgId).accept(ApiMediaTypes.COLUMNAR_JSON))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    private byte[] list(String accept) throws Exception {
+        return mockMvc.perform(get("/api/organisations").param("namePrefix", prefix).accept(accept))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(accept))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+}
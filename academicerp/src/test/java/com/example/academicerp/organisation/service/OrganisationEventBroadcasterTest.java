@@ -0,0 +1,101 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.dto.OrganisationChange;
+import com.example.academicerp.organisation.repository.OrganisationChangeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrganisationEventBroadcasterTest {
+
+    private static final int BUFFER_SIZE = 4;
+    private static final int REPLAY_LIMIT = 2;
+
+    private final StubChangeRepository changes = new StubChangeRepository();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void clientThatKeepsUpStaysConnected() {
+        OrganisationEventBroadcaster broadcaster = broadcaster(Runnable::run);
+        broadcaster.subscribe(null);
+
+        for (int batch = 0; batch < 10; batch++) {
+            changes.next(batch * 2L + 1, batch * 2L + 2);
+            broadcaster.poll();
+        }
+
+        assertThat(broadcaster.clientCount()).isEqualTo(1);
+        assertThat(registry.get("organisation.events.evictions").counter().count()).isZero();
+    }
+
+    @Test
+    void clientWhoseBufferFillsIsDisconnectedWithoutBlockingTheOthers() {
+        List<Runnable> stalled = new ArrayList<>();
+        OrganisationEventBroadcaster broadcaster = broadcaster(stalled::add);
+        broadcaster.subscribe(null);
+        broadcaster.subscribe(null);
+
+        // Nothing is written while the senders are stalled: the open comment and four changes overflow
+        changes.next(1, 2);
+        changes.next(3, 4);
+        broadcaster.poll();
+
+        assertThat(broadcaster.clientCount()).isZero();
+        assertThat(registry.get("organisation.events.evictions").counter().count()).isEqualTo(2);
+        assertThat(registry.get("organisation.events.clients").gauge().value()).isZero();
+    }
+
+    @Test
+    void pollStopsTailingWhileNobodyListens() {
+        OrganisationEventBroadcaster broadcaster = broadcaster(Runnable::run);
+        changes.next(1, 2);
+
+        broadcaster.poll();
+
+        assertThat(changes.batches).hasSize(1);
+    }
+
+    private OrganisationEventBroadcaster broadcaster(Executor senders) {
+        return new OrganisationEventBroadcaster(changes, senders, BUFFER_SIZE, 10, REPLAY_LIMIT,
+                Duration.ofMinutes(1), Duration.ZERO, registry);
+    }
+
+    /** Outbox returning the queued batches in turn, then nothing. */
+    private static final class StubChangeRepository extends OrganisationChangeRepository {
+
+        private final Deque<List<OrganisationChange>> batches = new ArrayDeque<>();
+
+        StubChangeRepository() {
+            super(null);
+        }
+
+        void next(long... positions) {
+            List<OrganisationChange> batch = new ArrayList<>();
+            for (long position : positions) {
+                batch.add(new OrganisationChange(position, position, OrganisationChange.Type.SAVED, 0L,
+                        Instant.EPOCH, null));
+            }
+            batches.add(batch);
+        }
+
+        @Override
+        public List<OrganisationChange> findSettledAfter(long position, Instant settledBefore, int limit) {
+            List<OrganisationChange> batch = batches.poll();
+            return batch == null ? List.of() : batch;
+        }
+
+        @Override
+        public Long latestPosition() {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.config.JpaBatchingConfig;
+import com.example.academicerp.organisation.dto.ImportReport;
+import com.example.academicerp.organisation.dto.ImportRowResult;
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.entity.OrganisationHr;
+import com.example.academicerp.organisation.repository.OrganisationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "organisation.import.max-rows=150")
+@Import({OrganisationImportService.class, JpaBatchingConfig.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrganisationImportServiceTest {
+
+    @Autowired
+    private OrganisationImportService importService;
+
+    @Autowired
+    private OrganisationRepository organisationRepository;
+
+    @AfterEach
+    void cleanUp() {
+        organisationRepository.deleteAll();
+    }
+
+    @Test
+    void importsValidRowsAndReportsInvalidOnes() {
+        List<Organisation> payload = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            Organisation org = new Organisation("Org " + i, "Address " + i);
+            org.getHrContacts().add(new OrganisationHr("First", "Last", "hr" + i + "@org.com", "9876543210"));
+            payload.add(org);
+        }
+        payload.get(10).setName("");
+        payload.get(70).getHrContacts().get(0).setContactNumber("123");
+
+        ImportReport report = importService.importOrganisations(payload);
+
+        assertThat(report.getTotal()).isEqualTo(120);
+        assertThat(report.getImported()).isEqualTo(118);
+        assertThat(report.getFailed()).isEqualTo(2);
+        assertThat(report.getRows().get(10).getStatus()).isEqualTo(ImportRowResult.Status.FAILED);
+        assertThat(report.getRows().get(10).getErrors()).extracting(e -> e.get("field")).containsExactly("name");
+        assertThat(report.getRows().get(70).getErrors()).extracting(e -> e.get("field"))
+                .containsExactly("hrContacts[0].contactNumber");
+        assertThat(report.getRows().get(0).getId()).isNotNull();
+        assertThat(organisationRepository.count()).isEqualTo(118);
+    }
+
+    @Test
+    void importsCsvWithQuotedFieldsAndOptionalContact() throws Exception {
+        String csv = """
+                id,name,address,city,isActive,hrFirstName,hrEmail,hrContactNumber
+                99,"Acme, Inc.","1 ""Main"" St",Pune,false,Jane,jane@acme.com,9876543210
+                ,Globex,,Mumbai,,,,
+                ,Initech,,Delhi,maybe,,,
+                """;
+
+        ImportReport report = importService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getRows().get(2).getErrors()).extracting(e -> e.get("field")).containsExactly("isActive");
+
+        Organisation acme = organisationRepository.findWithHrContactsById(report.getRows().get(0).getId()).orElseThrow();
+        assertThat(acme.getName()).isEqualTo("Acme, Inc.");
+        assertThat(acme.getAddress()).isEqualTo("1 \"Main\" St");
+        assertThat(acme.getIsActive()).isFalse();
+        assertThat(acme.getHrContacts()).extracting(OrganisationHr::getEmail).containsExactly("jane@acme.com");
+    }
+
+    @Test
+    void importsJsonArray() throws Exception {
+        String json = """
+                [{"name":"Acme","city":"Pune","hrContacts":[
+                    {"firstName":"Jane","lastName":"Doe","email":"jane@acme.com","contactNumber":"9876543210"}]},
+                 {"name":""}]
+                """;
+
+        ImportReport report = importService.importJson(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getRows().get(1).getErrors()).extracting(e -> e.get("field")).containsExactly("name");
+        Organisation acme = organisationRepository.findWithHrContactsById(report.getRows().get(0).getId()).orElseThrow();
+        assertThat(acme.getHrContacts()).extracting(OrganisationHr::getEmail).containsExactly("jane@acme.com");
+    }
+
+    @Test
+    void exportedRowsWithAVersionAreInsertedAsNew() throws Exception {
+        String json = """
+                [{"id":42,"version":3,"name":"Acme","hrContacts":[
+                    {"id":7,"version":2,"firstName":"Jane","lastName":"Doe","email":"jane@acme.com","contactNumber":"9876543210"}]}]
+                """;
+
+        ImportReport report = importService.importJson(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        Long id = report.getRows().get(0).getId();
+        assertThat(id).isNotNull();
+        Organisation acme = organisationRepository.findWithHrContactsById(id).orElseThrow();
+        assertThat(acme.getVersion()).isZero();
+        assertThat(acme.getHrContacts()).singleElement().satisfies(hr -> assertThat(hr.getVersion()).isZero());
+    }
+
+    @Test
+    void oversizedJsonIsRejectedBeforeTheRestOfTheBodyIsRead() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i <= 150; i++) {
+            json.append("{\"name\":\"Org ").append(i).append("\"},");
+        }
+        // Never reached: reading this far would fail as malformed instead
+        json.append("not json");
+
+        assertThatThrownBy(() -> importService.importJson(
+                new ByteArrayInputStream(json.toString().getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOfSatisfying(ResponseStatusException.class, ex ->
+                        assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE));
+        assertThat(organisationRepository.count()).isZero();
+    }
+}
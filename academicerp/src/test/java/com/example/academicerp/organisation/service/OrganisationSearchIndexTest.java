@@ -0,0 +1,91 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.entity.OrganisationHr;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrganisationSearchIndexTest {
+
+    private OrganisationSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new OrganisationSearchIndex();
+        index.put(organisation(1L, "Acme Technologies", "Pune", "Technology"));
+        index.put(organisation(2L, "Globex Corporation", "Mumbai", "Finance"));
+        index.put(organisation(3L, "Initech", "Pune", "Technology"));
+
+        Organisation withContact = organisation(4L, "Umbrella", "Delhi", "Pharma");
+        OrganisationHr hr = new OrganisationHr("Priya", "Sharma", "priya.sharma@umbrella.in", "9876543210");
+        hr.setDesignation("Talent Acquisition Lead");
+        withContact.getHrContacts().add(hr);
+        index.put(withContact);
+    }
+
+    @Test
+    void ranksNameMatchesAboveCityMatchesAndRequiresEveryTerm() {
+        index.put(organisation(5L, "Pune Logistics", "Nagpur", "Logistics"));
+
+        assertThat(ids(index.search("pune", 10))).startsWith(5L).containsExactlyInAnyOrder(5L, 1L, 3L);
+        assertThat(ids(index.search("pune technology", 10))).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.search("pune finance", 10)).isEmpty();
+    }
+
+    @Test
+    void toleratesTyposAndMatchesPrefixes() {
+        assertThat(ids(index.search("Globx", 10))).containsExactly(2L);
+        assertThat(ids(index.search("corprtaion", 10))).containsExactly(2L);
+        assertThat(ids(index.search("initec", 10))).containsExactly(3L);
+        assertThat(ids(index.search("glo", 10))).containsExactly(2L);
+    }
+
+    @Test
+    void toleratesTranspositionsThatShareNoTrigrams() {
+        // "amce" shares no trigram with "acme", and each transposition here destroys four
+        assertThat(ids(index.search("amce", 10))).containsExactly(1L);
+        assertThat(ids(index.search("tehcnologeis", 10))).containsExactly(1L);
+    }
+
+    @Test
+    void searchesHrContactNamesEmailsAndDesignations() {
+        assertThat(ids(index.search("sharma", 10))).containsExactly(4L);
+        assertThat(ids(index.search("priya.sharma@umbrella.in", 10))).containsExactly(4L);
+        assertThat(ids(index.search("talent", 10))).containsExactly(4L);
+    }
+
+    @Test
+    void updatesReplaceAndDeletesRemoveTerms() {
+        index.put(organisation(2L, "Hooli", "Mumbai", "Finance"));
+        assertThat(index.search("globex", 10)).isEmpty();
+        assertThat(ids(index.search("hooli", 10))).containsExactly(2L);
+
+        index.remove(2L);
+        assertThat(index.search("hooli", 10)).isEmpty();
+        assertThat(index.contains(2L)).isFalse();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void editDistanceCountsTranspositionsAsOneEdit() {
+        assertThat(OrganisationSearchIndex.editDistance("acme", "amce", 2)).isEqualTo(1);
+        assertThat(OrganisationSearchIndex.editDistance("acme", "acne", 2)).isEqualTo(1);
+        assertThat(OrganisationSearchIndex.editDistance("acme", "xyz", 1)).isEqualTo(2);
+    }
+
+    private static Organisation organisation(Long id, String name, String city, String industryType) {
+        Organisation org = new Organisation(name, null);
+        org.setId(id);
+        org.setCity(city);
+        org.setIndustryType(industryType);
+        return org;
+    }
+
+    private static List<Long> ids(List<OrganisationSearchIndex.Hit> hits) {
+        return hits.stream().map(OrganisationSearchIndex.Hit::id).toList();
+    }
+}
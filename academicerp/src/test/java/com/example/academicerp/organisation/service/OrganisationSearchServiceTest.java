@@ -0,0 +1,94 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.dto.OrganisationChange;
+import com.example.academicerp.organisation.dto.OrganisationSearchHit;
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.repository.OrganisationChangeRepository;
+import com.example.academicerp.organisation.repository.OrganisationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({OrganisationService.class, OrganisationSearchService.class, OrganisationChangeRepository.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrganisationSearchServiceTest {
+
+    @Autowired
+    private OrganisationService organisationService;
+
+    @Autowired
+    private OrganisationSearchService searchService;
+
+    @Autowired
+    private OrganisationRepository organisationRepository;
+
+    @Autowired
+    private OrganisationChangeRepository changeRepository;
+
+    @AfterEach
+    void cleanUp() {
+        organisationService.deleteAll();
+    }
+
+    @Test
+    void rebuildIndexesExistingRowsAndCommittedWritesKeepItCurrent() {
+        Organisation existing = new Organisation("Acme Technologies", null);
+        existing.setCity("Pune");
+        Long acmeId = organisationRepository.save(existing).getId();
+        searchService.rebuild();
+
+        assertThat(searchService.search("acme", 10)).extracting(hit -> hit.getOrganisation().getId())
+                .containsExactly(acmeId);
+
+        Long globexId = organisationService.create(new Organisation("Globex", null)).getId();
+        assertThat(searchService.search("globx", 10)).extracting(hit -> hit.getOrganisation().getId())
+                .containsExactly(globexId);
+
+        organisationService.update(acmeId, new Organisation("Initech", null), null);
+        assertThat(searchService.search("acme", 10)).isEmpty();
+        assertThat(searchService.search("initech", 10)).extracting(OrganisationSearchHit::getOrganisation)
+                .extracting(Organisation::getName).containsExactly("Initech");
+
+        organisationService.delete(globexId, null);
+        assertThat(searchService.search("globex", 10)).isEmpty();
+    }
+
+    @Test
+    void writesCommittedOnAnotherNodeArriveThroughTheOutbox() {
+        searchService.rebuild();
+
+        // Saved without events, as seen by a node that did not make the writes
+        Organisation elsewhere = organisationRepository.save(new Organisation("Initech", null));
+        changeRepository.append(List.of(new OrganisationChange(0, elsewhere.getId(), OrganisationChange.Type.SAVED,
+                elsewhere.getVersion(), Instant.now(), null)));
+        assertThat(searchService.search("initech", 10)).isEmpty();
+
+        searchService.poll();
+        assertThat(searchService.search("initech", 10)).extracting(hit -> hit.getOrganisation().getId())
+                .containsExactly(elsewhere.getId());
+
+        elsewhere.setName("Hooli");
+        elsewhere = organisationRepository.save(elsewhere);
+        changeRepository.append(List.of(new OrganisationChange(0, elsewhere.getId(), OrganisationChange.Type.SAVED,
+                elsewhere.getVersion(), Instant.now(), null)));
+        assertThat(searchService.search("hooli", 10)).isEmpty();
+
+        searchService.poll();
+        assertThat(searchService.search("hooli", 10)).hasSize(1);
+        assertThat(searchService.search("initech", 10)).isEmpty();
+    }
+}
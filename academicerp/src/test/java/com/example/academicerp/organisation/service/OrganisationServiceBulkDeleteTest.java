@@ -0,0 +1,130 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.dto.BulkDeleteRequest;
+import com.example.academicerp.organisation.dto.BulkDeleteResponse;
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.entity.OrganisationHr;
+import com.example.academicerp.organisation.repository.OrganisationHrRepository;
+import com.example.academicerp.organisation.repository.OrganisationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Small chunks, so deleting everything takes more than one
+@DataJpaTest(properties = "organisation.bulk-delete.chunk-size=4")
+@Import({OrganisationService.class, OrganisationServiceBulkDeleteTest.FailingListener.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+class OrganisationServiceBulkDeleteTest {
+
+    @Autowired
+    private OrganisationService organisationService;
+
+    @Autowired
+    private OrganisationRepository organisationRepository;
+
+    @Autowired
+    private OrganisationHrRepository organisationHrRepository;
+
+    @Autowired
+    private FailingListener failingListener;
+
+    private Long firstId;
+
+    @BeforeEach
+    void seed() {
+        List<Organisation> orgs = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Organisation org = new Organisation("Org " + i, null);
+            org.setIndustryType(i < 3 ? "Technology" : "Finance");
+            org.setIsActive(i % 2 == 0);
+            org.addHrContact(new OrganisationHr("First", "Last", "a" + i + "@org.com", "9876543210"));
+            org.addHrContact(new OrganisationHr("First", "Last", "b" + i + "@org.com", "9876543210"));
+            orgs.add(org);
+        }
+        firstId = organisationRepository.saveAll(orgs).get(0).getId();
+    }
+
+    @Test
+    void deletesMatchingOrganisationsAndTheirContacts() {
+        BulkDeleteRequest criteria = new BulkDeleteRequest();
+        criteria.setIndustryType("Technology");
+        criteria.setIsActive(true);
+
+        BulkDeleteResponse response = organisationService.deleteMatching(criteria);
+
+        assertThat(response.getOrganisationsDeleted()).isEqualTo(2);
+        assertThat(response.getHrContactsDeleted()).isEqualTo(4);
+        assertThat(organisationRepository.count()).isEqualTo(4);
+        assertThat(organisationHrRepository.count()).isEqualTo(8);
+    }
+
+    @Test
+    void deletesByIds() {
+        BulkDeleteRequest criteria = new BulkDeleteRequest();
+        criteria.setIds(List.of(firstId, -1L));
+
+        BulkDeleteResponse response = organisationService.deleteMatching(criteria);
+
+        assertThat(response.getOrganisationsDeleted()).isEqualTo(1);
+        assertThat(organisationRepository.existsById(firstId)).isFalse();
+    }
+
+    @Test
+    void deleteAllRemovesEverything() {
+        BulkDeleteResponse response = organisationService.deleteAll();
+
+        assertThat(response.getOrganisationsDeleted()).isEqualTo(6);
+        assertThat(response.getHrContactsDeleted()).isEqualTo(12);
+        assertThat(organisationHrRepository.count()).isZero();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void failureAfterTheFirstChunkDeletesNothing() {
+        failingListener.failOnChunk = 2;
+        try {
+            assertThatThrownBy(() -> organisationService.deleteAll()).isInstanceOf(IllegalStateException.class);
+            assertThat(organisationRepository.count()).isEqualTo(6);
+            assertThat(organisationHrRepository.count()).isEqualTo(12);
+        } finally {
+            failingListener.failOnChunk = 0;
+            organisationService.deleteAll();
+        }
+    }
+
+    @Test
+    void rejectsEmptyCriteria() {
+        assertThatThrownBy(() -> organisationService.deleteMatching(new BulkDeleteRequest()))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThat(organisationRepository.count()).isEqualTo(6);
+    }
+
+    /** Fails the bulk delete when the given chunk is announced, inside its transaction. */
+    static class FailingListener {
+
+        private int failOnChunk;
+        private int chunks;
+
+        @EventListener
+        void onOrganisationsChanged(OrganisationsChangedEvent event) {
+            if (failOnChunk > 0 && ++chunks == failOnChunk) {
+                throw new IllegalStateException("Simulated failure in chunk " + chunks);
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.config.CacheConfig;
+import com.example.academicerp.organisation.dto.OrganisationChange;
+import com.example.academicerp.organisation.dto.OrganisationFilter;
+import com.example.academicerp.organisation.dto.OrganisationSummary;
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.repository.OrganisationChangeRepository;
+import com.example.academicerp.organisation.repository.OrganisationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({OrganisationService.class, CacheConfig.class, OrganisationCacheInvalidator.class,
+        OrganisationChangeRepository.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrganisationServiceCacheTest {
+
+    @Autowired
+    private OrganisationService organisationService;
+
+    @Autowired
+    private OrganisationRepository organisationRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private OrganisationCacheInvalidator invalidator;
+
+    @Autowired
+    private OrganisationChangeRepository changeRepository;
+
+    @AfterEach
+    void cleanUp() {
+        organisationService.deleteAll();
+    }
+
+    @Test
+    void readsAreServedFromCacheUntilAWriteInvalidatesThem() {
+        Long id = organisationService.create(new Organisation("Acme", "1 Main St")).getId();
+
+        Organisation first = organisationService.getById(id);
+        assertThat(organisationService.getById(id)).isSameAs(first);
+        assertThat(organisationService.summaries(new OrganisationFilter(), PageRequest.of(0, 10)).getContent())
+                .extracting(OrganisationSummary::getName).containsExactly("Acme");
+
+        Organisation rename = new Organisation("Acme Renamed", "1 Main St");
+        organisationService.update(id, rename, null);
+
+        assertThat(organisationService.getById(id).getName()).isEqualTo("Acme Renamed");
+        assertThat(organisationService.summaries(new OrganisationFilter(), PageRequest.of(0, 10)).getContent())
+                .extracting(OrganisationSummary::getName).containsExactly("Acme Renamed");
+    }
+
+    @Test
+    void deleteEvictsTheCachedEntry() {
+        Long id = organisationService.create(new Organisation("Acme", "1 Main St")).getId();
+        organisationService.getById(id);
+        assertThat(cacheManager.getCache(CacheConfig.ORGANISATIONS).get(id)).isNotNull();
+
+        organisationService.delete(id, null);
+
+        assertThat(cacheManager.getCache(CacheConfig.ORGANISATIONS).get(id)).isNull();
+        assertThat(organisationRepository.existsById(id)).isFalse();
+    }
+
+    @Test
+    void writesOnAnotherNodeAreEvictedFromTheOutbox() {
+        Long id = organisationService.create(new Organisation("Acme", "1 Main St")).getId();
+        invalidator.poll();
+        organisationService.getById(id);
+
+        // Changed without this node's service, as another node would
+        Organisation elsewhere = organisationRepository.findById(id).orElseThrow();
+        elsewhere.setName("Acme Elsewhere");
+        organisationRepository.save(elsewhere);
+        changeRepository.append(List.of(new OrganisationChange(0, id, OrganisationChange.Type.SAVED,
+                elsewhere.getVersion(), Instant.now(), null)));
+        assertThat(organisationService.getById(id).getName()).isEqualTo("Acme");
+
+        invalidator.poll();
+        assertThat(organisationService.getById(id).getName()).isEqualTo("Acme Elsewhere");
+    }
+}
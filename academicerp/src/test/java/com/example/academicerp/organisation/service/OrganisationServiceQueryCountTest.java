@@ -0,0 +1,133 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.dto.OrganisationFieldSet;
+import com.example.academicerp.organisation.dto.OrganisationFilter;
+import com.example.academicerp.organisation.dto.OrganisationSummary;
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.entity.OrganisationHr;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(OrganisationService.class)
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+class OrganisationServiceQueryCountTest {
+
+    @Autowired
+    private OrganisationService organisationService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void listingWithContactsStatementCountDoesNotGrowWithOrganisationCount() {
+        seed(12, 2);
+        long small = statementsForFirstPage();
+
+        seed(200, 3);
+        long large = statementsForFirstPage();
+
+        // organisations page + count + one batched hr_contacts load
+        assertThat(small).isEqualTo(3);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void summaryListingSelectsColumnsWithoutLoadingEntities() {
+        seed(12, 2);
+
+        statistics.clear();
+        Page<OrganisationSummary> page = organisationService.summaries(new OrganisationFilter(), PageRequest.of(0, 10));
+
+        assertThat(page.getTotalElements()).isEqualTo(12);
+        assertThat(page.getContent()).allSatisfy(row -> assertThat(row.getHrContactCount()).isEqualTo(2));
+        // projected page + count; nothing is loaded into the persistence context
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    void sparseFieldsReturnOnlyTheRequestedColumns() {
+        seed(3, 1);
+
+        statistics.clear();
+        Page<Map<String, Object>> page = organisationService.listFields(new OrganisationFilter(),
+                PageRequest.of(0, 10, Sort.by("name")), OrganisationFieldSet.parse("name,hrContactCount"));
+
+        assertThat(page.getContent()).first().satisfies(row -> {
+            assertThat(row).containsOnlyKeys("id", "name", "hrContactCount");
+            assertThat(row.get("name")).isEqualTo("Org 0");
+            assertThat(row.get("hrContactCount")).isEqualTo(1L);
+        });
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        Page<Map<String, Object>> withContacts = organisationService.listFields(new OrganisationFilter(),
+                PageRequest.of(0, 10), OrganisationFieldSet.parse("hrContacts"));
+        assertThat(withContacts.getContent()).first().satisfies(row ->
+                assertThat(row).containsOnlyKeys("id", "hrContacts"));
+    }
+
+    @Test
+    void detailLoadsOrganisationAndContactsInOneStatement() {
+        Long id = seed(1, 5);
+
+        statistics.clear();
+        Organisation org = organisationService.getById(id);
+        assertThat(org.getHrContacts()).hasSize(5);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private long statementsForFirstPage() {
+        statistics.clear();
+        Page<Map<String, Object>> page = organisationService.listFields(new OrganisationFilter(),
+                PageRequest.of(0, 10), OrganisationFieldSet.parse("name,hrContacts"));
+        page.forEach(row -> assertThat((List<?>) row.get("hrContacts")).isNotEmpty());
+        entityManager.clear();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long seed(int organisations, int contactsEach) {
+        Long lastId = null;
+        for (int i = 0; i < organisations; i++) {
+            Organisation org = new Organisation("Org " + i, "Address " + i);
+            for (int j = 0; j < contactsEach; j++) {
+                org.addHrContact(new OrganisationHr("First" + j, "Last" + j,
+                        "hr" + j + "@org" + i + ".com", "9876543210"));
+            }
+            lastId = entityManager.persist(org).getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return lastId;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.dto.CursorPageResponse;
+import com.example.academicerp.organisation.dto.OrganisationCursor;
+import com.example.academicerp.organisation.dto.OrganisationFilter;
+import com.example.academicerp.organisation.entity.Organisation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(OrganisationService.class)
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+class OrganisationServiceScrollTest {
+
+    private static final int ORGANISATIONS = 25;
+
+    @Autowired
+    private OrganisationService organisationService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void seed() {
+        for (int i = 0; i < ORGANISATIONS; i++) {
+            Organisation org = new Organisation("Org " + i, "Address, " + i);
+            org.setIndustryType(i % 2 == 0 ? "Technology" : "Finance");
+            entityManager.persist(org);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void cursorWalkVisitsEveryRowOnceInBothOrders() {
+        for (OrganisationCursor.Order order : OrganisationCursor.Order.values()) {
+            List<Long> seen = new ArrayList<>();
+            OrganisationCursor cursor = null;
+            do {
+                CursorPageResponse<Organisation> slice =
+                        organisationService.scroll(new OrganisationFilter(), order, cursor, 10);
+                slice.getContent().forEach(org -> seen.add(org.getId()));
+                cursor = OrganisationCursor.decode(slice.getNextCursor(), order);
+            } while (cursor != null);
+
+            assertThat(seen).hasSize(ORGANISATIONS).doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    void exportWritesOneLinePerMatchingRow() throws Exception {
+        OrganisationFilter filter = new OrganisationFilter();
+        filter.setIndustryType("Technology");
+
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        long rows = organisationService.export(filter, OrganisationExportFormat.NDJSON, ndjson);
+        assertThat(rows).isEqualTo(13);
+        assertThat(ndjson.toString(StandardCharsets.UTF_8).lines()).hasSize(13)
+                .allSatisfy(line -> assertThat(line).startsWith("{\"id\":"));
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        organisationService.export(filter, OrganisationExportFormat.CSV, csv);
+        List<String> lines = csv.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(14);
+        assertThat(lines.get(1)).contains("\"Address, 0\"");
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.entity.OrganisationHr;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolationException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(OrganisationService.class)
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+class OrganisationServiceUpdateTest {
+
+    @Autowired
+    private OrganisationService organisationService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+    private Long orgId;
+    private List<Long> contactIds;
+
+    @BeforeEach
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Organisation org = new Organisation("Acme", "1 Main St");
+        org.setCity("Pune");
+        org.addHrContact(new OrganisationHr("Jane", "Doe", "jane@acme.com", "9876543210"));
+        org.addHrContact(new OrganisationHr("John", "Roe", "john@acme.com", "9876543211"));
+        orgId = entityManager.persist(org).getId();
+        contactIds = org.getHrContacts().stream().map(OrganisationHr::getId).toList();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void renameKeepsContactRowsUntouched() {
+        Organisation payload = new Organisation("Acme Renamed", "1 Main St");
+        payload.setHrContacts(List.of(contact(contactIds.get(0), "Jane", "Doe", "jane@acme.com", "9876543210"),
+                contact(contactIds.get(1), "John", "Roe", "john@acme.com", "9876543211")));
+
+        statistics.clear();
+        organisationService.update(orgId, payload, null);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+    }
+
+    @Test
+    void contactsAreUpdatedInsertedAndDeletedByDiff() {
+        Organisation payload = new Organisation("Acme", "1 Main St");
+        payload.setHrContacts(List.of(contact(contactIds.get(0), "Janet", "Doe", "jane@acme.com", "9876543210"),
+                contact(null, "Max", "Moe", "max@acme.com", "9876543212")));
+
+        statistics.clear();
+        organisationService.update(orgId, payload, null);
+        entityManager.flush();
+        entityManager.clear();
+
+        // the changed contact, plus the organisation's updatedAt so its ETag moves
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(2);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(1);
+
+        Organisation reloaded = organisationService.getById(orgId);
+        assertThat(reloaded.getHrContacts()).extracting(OrganisationHr::getFirstName)
+                .containsExactlyInAnyOrder("Janet", "Max");
+        assertThat(reloaded.getHrContacts()).extracting(OrganisationHr::getId).contains(contactIds.get(0));
+    }
+
+    @Test
+    void replacingAContactWithTheSameEmailReusesItsRow() {
+        Organisation payload = new Organisation("Acme", "1 Main St");
+        payload.setHrContacts(List.of(contact(null, "Jane", "Smith", "jane@acme.com", "9876543219"),
+                contact(contactIds.get(1), "John", "Roe", "john@acme.com", "9876543211")));
+
+        statistics.clear();
+        organisationService.update(orgId, payload, null);
+        entityManager.flush();
+        entityManager.clear();
+
+        // unique (organisation_id, email): an INSERT next to the pending DELETE would fail
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(organisationService.getById(orgId).getHrContacts())
+                .extracting(OrganisationHr::getId, OrganisationHr::getLastName)
+                .contains(tuple(contactIds.get(0), "Smith"));
+    }
+
+    @Test
+    void patchChangesOnlyGivenFields() throws Exception {
+        organisationService.patch(orgId, objectMapper.readTree("{\"city\":\"Mumbai\",\"id\":999}"), null);
+        entityManager.flush();
+        entityManager.clear();
+
+        Organisation reloaded = organisationService.getById(orgId);
+        assertThat(reloaded.getId()).isEqualTo(orgId);
+        assertThat(reloaded.getCity()).isEqualTo("Mumbai");
+        assertThat(reloaded.getName()).isEqualTo("Acme");
+        assertThat(reloaded.getHrContacts()).hasSize(2);
+    }
+
+    @Test
+    void patchIsValidated() throws Exception {
+        assertThatThrownBy(() -> organisationService.patch(orgId, objectMapper.readTree("{\"name\":\"\"}"), null))
+                .isInstanceOf(ConstraintViolationException.class);
+    }
+
+    @Test
+    void staleIfMatchIsRejected() {
+        String etag = OrganisationEtags.of(organisationService.getById(orgId));
+        organisationService.update(orgId, new Organisation("Acme Renamed", "1 Main St"), etag);
+        entityManager.flush();
+
+        assertThatThrownBy(() -> organisationService.update(orgId, new Organisation("Acme Again", "1 Main St"), etag))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("412");
+    }
+
+    private static OrganisationHr contact(Long id, String firstName, String lastName, String email, String number) {
+        OrganisationHr hr = new OrganisationHr(firstName, lastName, email, number);
+        hr.setId(id);
+        return hr;
+    }
+}
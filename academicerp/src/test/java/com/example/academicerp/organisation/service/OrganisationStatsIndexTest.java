@@ -0,0 +1,62 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.dto.OrganisationFacts;
+import com.example.academicerp.organisation.dto.OrganisationStats;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrganisationStatsIndexTest {
+
+    private final OrganisationStatsIndex index = new OrganisationStatsIndex();
+
+    @Test
+    void countsOrganisationsByIndustryLocationAndContacts() {
+        index.put(new OrganisationFacts(1L, "Technology", "India", "Maharashtra", "Pune", true, 2L));
+        index.put(new OrganisationFacts(2L, "Technology", "India", "Maharashtra", "Mumbai", false, 0L));
+        index.put(new OrganisationFacts(3L, "Finance", "India", "Maharashtra", "Pune", true, 1L));
+        index.put(new OrganisationFacts(4L, null, null, null, null, true, 0L));
+
+        OrganisationStats stats = index.snapshot(Instant.EPOCH);
+
+        assertThat(stats.getOrganisations()).isEqualTo(4);
+        assertThat(stats.getActiveOrganisations()).isEqualTo(3);
+        assertThat(stats.getInactiveOrganisations()).isEqualTo(1);
+        assertThat(stats.getHrContacts()).isEqualTo(3);
+        assertThat(stats.getByIndustryType()).containsExactly(
+                Map.entry("Technology", 2L), Map.entry("Finance", 1L), Map.entry(OrganisationStats.UNSPECIFIED, 1L));
+        assertThat(stats.getByCountry()).containsExactly(
+                Map.entry("India", 3L), Map.entry(OrganisationStats.UNSPECIFIED, 1L));
+        assertThat(stats.getByLocation().get(0))
+                .isEqualTo(new OrganisationStats.LocationCount("India", "Maharashtra", "Pune", 2));
+        assertThat(stats.getByHrContactCount()).containsExactly(
+                Map.entry(0L, 2L), Map.entry(1L, 1L), Map.entry(2L, 1L));
+    }
+
+    @Test
+    void puttingAnOrganisationAgainMovesItAndRemovingItUndoesIt() {
+        index.put(new OrganisationFacts(1L, "Technology", "India", "Maharashtra", "Pune", true, 2L));
+        index.put(new OrganisationFacts(1L, "Technology", "India", "Maharashtra", "Pune", true, 2L));
+        index.put(new OrganisationFacts(1L, "Finance", "India", "Karnataka", "Bengaluru", false, 1L));
+
+        OrganisationStats moved = index.snapshot(Instant.EPOCH);
+        assertThat(moved.getOrganisations()).isEqualTo(1);
+        assertThat(moved.getActiveOrganisations()).isZero();
+        assertThat(moved.getHrContacts()).isEqualTo(1);
+        assertThat(moved.getByIndustryType()).containsOnlyKeys("Finance");
+        assertThat(moved.getByLocation()).extracting(OrganisationStats.LocationCount::getCity)
+                .containsExactly("Bengaluru");
+
+        index.remove(1L);
+        index.remove(1L);
+        OrganisationStats empty = index.snapshot(Instant.EPOCH);
+        assertThat(empty.getOrganisations()).isZero();
+        assertThat(empty.getHrContacts()).isZero();
+        assertThat(empty.getByIndustryType()).isEmpty();
+        assertThat(empty.getByLocation()).isEmpty();
+        assertThat(empty.getByHrContactCount()).isEmpty();
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.academicerp.organisation.service;
+
+import com.example.academicerp.organisation.dto.OrganisationChange;
+import com.example.academicerp.organisation.dto.OrganisationStats;
+import com.example.academicerp.organisation.entity.Organisation;
+import com.example.academicerp.organisation.entity.OrganisationHr;
+import com.example.academicerp.organisation.repository.OrganisationChangeRepository;
+import com.example.academicerp.organisation.repository.OrganisationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Long enough that a change appended just before a recount is not settled during it
+@DataJpaTest(properties = "organisation.changes.settle-time=PT1S")
+@Import({OrganisationService.class, OrganisationStatsService.class, OrganisationChangeRepository.class,
+        OrganisationChangeRecorder.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrganisationStatsServiceTest {
+
+    @Autowired
+    private OrganisationService organisationService;
+
+    @Autowired
+    private OrganisationStatsService statsService;
+
+    @Autowired
+    private OrganisationRepository organisationRepository;
+
+    @Autowired
+    private OrganisationChangeRepository changeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void cleanUp() {
+        organisationService.deleteAll();
+    }
+
+    @Test
+    void reconcileCountsExistingRowsAndCommittedWritesKeepCountersCurrent() {
+        Organisation existing = organisation("Acme", "Technology", "Pune");
+        existing.addHrContact(new OrganisationHr("Priya", "Sharma", "priya@acme.in", "9876543210"));
+        Long acmeId = organisationRepository.save(existing).getId();
+        statsService.reconcile();
+
+        OrganisationStats counted = statsService.stats();
+        assertThat(counted.getOrganisations()).isEqualTo(1);
+        assertThat(counted.getHrContacts()).isEqualTo(1);
+        assertThat(statsService.stats()).isSameAs(counted);
+
+        Long globexId = organisationService.create(organisation("Globex", "Finance", "Mumbai")).getId();
+        assertThat(statsService.stats().getByIndustryType())
+                .containsOnly(Map.entry("Technology", 1L), Map.entry("Finance", 1L));
+
+        organisationService.patch(acmeId, objectMapper.createObjectNode()
+                .put("industryType", "Finance")
+                .putNull("hrContacts"), null);
+        OrganisationStats updated = statsService.stats();
+        assertThat(updated.getByIndustryType()).containsOnly(Map.entry("Finance", 2L));
+        assertThat(updated.getHrContacts()).isZero();
+
+        organisationService.delete(globexId, null);
+        OrganisationStats afterDelete = statsService.stats();
+        assertThat(afterDelete.getOrganisations()).isEqualTo(1);
+        assertThat(afterDelete.getByCountry()).containsOnly(Map.entry("India", 1L));
+
+        // Applying the outbox on top of the local writes changes nothing
+        statsService.poll();
+        assertThat(statsService.stats()).usingRecursiveComparison().isEqualTo(afterDelete);
+    }
+
+    @Test
+    void writesCommittedOnAnotherNodeArriveThroughTheOutbox() throws InterruptedException {
+        statsService.reconcile();
+        assertThat(statsService.stats().getOrganisations()).isZero();
+
+        // Saved without an event, as seen by a node that did not make the write
+        Organisation elsewhere = organisationRepository.save(organisation("Initech", "Technology", "Delhi"));
+        changeRepository.append(List.of(new OrganisationChange(0, elsewhere.getId(), OrganisationChange.Type.SAVED,
+                elsewhere.getVersion(), Instant.now(), null)));
+        assertThat(statsService.stats().getOrganisations()).isZero();
+
+        Thread.sleep(1100);
+        statsService.poll();
+        OrganisationStats stats = statsService.stats();
+        assertThat(stats.getOrganisations()).isEqualTo(1);
+        assertThat(stats.getByLocation()).containsExactly(
+                new OrganisationStats.LocationCount("India", OrganisationStats.UNSPECIFIED, "Delhi", 1));
+    }
+
+    @Test
+    void changeCommittedOutOfOrderDuringARecountIsAppliedAfterwards() throws InterruptedException {
+        Organisation moving = organisationRepository.save(organisation("Hooli", "Technology", "Chennai"));
+        Organisation other = organisationRepository.save(organisation("Umbrella", "Finance", "Delhi"));
+        // Another node's update has taken the lower position but not committed yet, while a
+        // later position has already committed
+        changeRepository.append(List.of(
+                new OrganisationChange(0, moving.getId(), OrganisationChange.Type.SAVED,
+                        moving.getVersion() + 1, Instant.now(), null),
+                new OrganisationChange(0, other.getId(), OrganisationChange.Type.SAVED,
+                        other.getVersion(), Instant.now(), null)));
+        statsService.reconcile();
+        assertThat(statsService.stats().getByIndustryType())
+                .containsOnly(Map.entry("Technology", 1L), Map.entry("Finance", 1L));
+
+        // The update commits after the recount's snapshot
+        moving.setIndustryType("Finance");
+        organisationRepository.save(moving);
+        Thread.sleep(1100);
+
+        statsService.poll();
+        assertThat(statsService.stats().getByIndustryType()).containsOnly(Map.entry("Finance", 2L));
+    }
+
+    private static Organisation organisation(String name, String industryType, String city) {
+        Organisation org = new Organisation(name, null);
+        org.setIndustryType(industryType);
+        org.setCity(city);
+        org.setCountry("India");
+        return org;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.academicerp.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+            20, 10, 40, Duration.ofMillis(500), Duration.ofMillis(50), Duration.ofMinutes(1), registry);
+
+    @Test
+    void shedsBeyondTheLimitAndFreesSlotsOnRelease() {
+        for (int i = 0; i < 20; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(5));
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(registry.get("api.admission.concurrency.in.flight").gauge().value()).isEqualTo(20);
+    }
+
+    @Test
+    void slowRequestsLowerTheLimitDownToTheMinimum() {
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.release(TimeUnit.SECONDS.toNanos(2));
+        }
+        limiter.adjust();
+        assertThat(limiter.limit()).isEqualTo(18);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.adjust();
+        }
+        assertThat(limiter.limit()).isEqualTo(10);
+        assertThat(registry.get("api.admission.concurrency.limit").gauge().value()).isEqualTo(10);
+    }
+
+    @Test
+    void slowConnectionAcquisitionLowersTheLimit() {
+        registry.timer(AdaptiveConcurrencyLimiter.POOL_ACQUIRE_TIMER, "pool", "primary")
+                .record(200, TimeUnit.MILLISECONDS);
+        limiter.adjust();
+        assertThat(limiter.limit()).isEqualTo(18);
+
+        // Only waits since the previous adjustment count
+        limiter.adjust();
+        assertThat(limiter.limit()).isEqualTo(18);
+    }
+
+    @Test
+    void growsWhileFastRequestsAreTurnedAway() {
+        for (int i = 0; i < 21; i++) {
+            limiter.tryAcquire();
+        }
+        for (int i = 0; i < 20; i++) {
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(5));
+        }
+        limiter.adjust();
+        assertThat(limiter.limit()).isEqualTo(21);
+
+        // Idle and fast: stays where it is
+        limiter.adjust();
+        assertThat(limiter.limit()).isEqualTo(21);
+    }
+}
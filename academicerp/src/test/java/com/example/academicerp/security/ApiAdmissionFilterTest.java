@@ -0,0 +1,85 @@
+package com.example.academicerp.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "api.admission.enabled=true",
+        "api.admission.read.burst=2",
+        "api.admission.read.permits-per-second=0.01"
+})
+@AutoConfigureMockMvc
+class ApiAdmissionFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    void callerOverItsRateIsToldToRetryLaterWithoutAffectingOthers() throws Exception {
+        double admitted = decisions("admitted");
+        double rateLimited = decisions("rate_limited");
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/organisations/stats").with(user("hammer")))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/api/organisations/stats").with(user("hammer")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "100"));
+
+        mockMvc.perform(get("/api/organisations/stats").with(user("calm")))
+                .andExpect(status().isOk());
+
+        assertThat(decisions("rate_limited") - rateLimited).isEqualTo(1);
+        assertThat(decisions("admitted") - admitted).isEqualTo(3);
+    }
+
+    @Test
+    void anonymousCallersAreLimitedByAddress() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/auth/me").with(request -> {
+                request.setRemoteAddr("203.0.113.7");
+                return request;
+            })).andExpect(status().is3xxRedirection());
+        }
+        mockMvc.perform(get("/api/auth/me").with(request -> {
+            request.setRemoteAddr("203.0.113.7");
+            return request;
+        })).andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void deletingEveryOrganisationIsABulkCall() {
+        assertThat(ApiAdmissionFilter.Tier.of(request("DELETE", "/api/organisations")))
+                .isEqualTo(ApiAdmissionFilter.Tier.BULK);
+        assertThat(ApiAdmissionFilter.Tier.of(request("POST", "/api/organisations/bulk-delete")))
+                .isEqualTo(ApiAdmissionFilter.Tier.BULK);
+        assertThat(ApiAdmissionFilter.Tier.of(request("DELETE", "/api/organisations/7")))
+                .isEqualTo(ApiAdmissionFilter.Tier.WRITE);
+        assertThat(ApiAdmissionFilter.Tier.of(request("GET", "/api/organisations")))
+                .isEqualTo(ApiAdmissionFilter.Tier.READ);
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+
+    private double decisions(String outcome) {
+        return registry.get("api.admission.requests").tags("tier", "read", "outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.academicerp.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/** Google ID tokens as bearer tokens, verified against a local key file instead of Google's JWK set. */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BearerTokenAuthenticationTest {
+
+    private static final RSAKey SIGNING_KEY = generateKey("signing");
+    private static final RSAKey UNKNOWN_KEY = generateKey("unknown");
+
+    @DynamicPropertySource
+    static void keySet(DynamicPropertyRegistry registry) {
+        try {
+            Path keys = Files.createTempFile("jwks", ".json");
+            keys.toFile().deleteOnExit();
+            Files.writeString(keys, new JWKSet(SIGNING_KEY.toPublicJWK()).toString());
+            registry.add("google.oauth.id-token.jwk-set-uri", () -> keys.toUri().toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void validIdTokenAuthenticatesWithoutASession() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/auth/me")
+                        .header("Authorization", "Bearer " + token(SIGNING_KEY, "test-client-id", Instant.now().plusSeconds(600))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("jane@example.com"))
+                .andExpect(jsonPath("$.name").value("Jane Doe"))
+                .andReturn();
+
+        assertThat(result.getRequest().getSession(false)).isNull();
+        assertThat(result.getResponse().getHeader("Set-Cookie")).isNull();
+    }
+
+    @Test
+    void tokenForAnotherClientIsRejected() throws Exception {
+        mockMvc.perform(get("/api/auth/me")
+                        .header("Authorization", "Bearer " + token(SIGNING_KEY, "other-client", Instant.now().plusSeconds(600))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void expiredTokenIsRejected() throws Exception {
+        mockMvc.perform(get("/api/auth/me")
+                        .header("Authorization", "Bearer " + token(SIGNING_KEY, "test-client-id", Instant.now().minusSeconds(600))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void tokenSignedWithAnUnknownKeyIsRejected() throws Exception {
+        mockMvc.perform(get("/api/auth/me")
+                        .header("Authorization", "Bearer " + token(UNKNOWN_KEY, "test-client-id", Instant.now().plusSeconds(600))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private static String token(RSAKey key, String audience, Instant expiresAt) throws JOSEException {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer("https://accounts.google.com")
+                .audience(audience)
+                .subject("1234567890")
+                .claim("email", "jane@example.com")
+                .claim("name", "Jane Doe")
+                .issueTime(Date.from(expiresAt.minusSeconds(3600)))
+                .expirationTime(Date.from(expiresAt))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+
+    private static RSAKey generateKey(String keyId) {
+        try {
+            return new RSAKeyGenerator(2048).keyID(keyId).generate();
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
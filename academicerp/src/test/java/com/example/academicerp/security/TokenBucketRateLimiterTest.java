@@ -0,0 +1,43 @@
+package com.example.academicerp.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private long now = 1_000_000_000L;
+    private final TokenBucketRateLimiter limiter =
+            new TokenBucketRateLimiter(2, 3, 100, Duration.ofMinutes(1), () -> now);
+
+    @Test
+    void allowsABurstThenRefillsAtTheRate() {
+        assertThat(limiter.tryAcquire("alice")).isZero();
+        assertThat(limiter.tryAcquire("alice")).isZero();
+        assertThat(limiter.tryAcquire("alice")).isZero();
+        assertThat(limiter.tryAcquire("alice")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+
+        now += TimeUnit.MILLISECONDS.toNanos(500);
+        assertThat(limiter.tryAcquire("alice")).isZero();
+        assertThat(limiter.tryAcquire("alice")).isPositive();
+
+        // A long pause refills the bucket to the burst, not beyond
+        now += TimeUnit.SECONDS.toNanos(60);
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("alice")).isZero();
+        }
+        assertThat(limiter.tryAcquire("alice")).isPositive();
+    }
+
+    @Test
+    void callersHaveTheirOwnBuckets() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("alice");
+        }
+        assertThat(limiter.tryAcquire("alice")).isPositive();
+        assertThat(limiter.tryAcquire("bob")).isZero();
+    }
+}
@@ -0,0 +1,42 @@
+-- What Hibernate's ddl-auto=update created on MySQL before there were migrations: the V1 tables
+-- with AUTO_INCREMENT ids and no sequence tables
+CREATE TABLE organisations (
+    is_active BIT,
+    created_at DATETIME(6),
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    updated_at DATETIME(6),
+    name VARCHAR(50) NOT NULL,
+    address VARCHAR(100),
+    city VARCHAR(255),
+    country VARCHAR(255),
+    industry_type VARCHAR(255),
+    pincode VARCHAR(255),
+    state VARCHAR(255),
+    website VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE organisation_hr (
+    created_at DATETIME(6),
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    organisation_id BIGINT NOT NULL,
+    updated_at DATETIME(6),
+    first_name VARCHAR(25) NOT NULL,
+    last_name VARCHAR(25),
+    email VARCHAR(50) NOT NULL,
+    contact_number VARCHAR(255) NOT NULL,
+    designation VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    email VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+ALTER TABLE users ADD CONSTRAINT UK6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email);
+
+ALTER TABLE organisation_hr ADD CONSTRAINT FKruikef9hg0lp23wx2smbafl7
+    FOREIGN KEY (organisation_id) REFERENCES organisations (id);
@@ -1,7 +1,9 @@
 import http from "../utils/httpClient";
 import { API_ENDPOINTS } from "../constants";
-import type { User } from "../models/models";
+import type { AppAuthResponse, User } from "../models/models";
 
 export const AuthAPI = {
   getUserProfile: () => http.get<User>(API_ENDPOINTS.AUTH_ME),
+  exchangeCode: (code: string) =>
+    http.post<AppAuthResponse>(API_ENDPOINTS.AUTH_EXCHANGE, { code }),
 };
@@ -1,14 +1,41 @@
+import qs from "qs";
 import http from "../utils/httpClient";
+import { subscribe } from "../utils/eventStream";
 import { API_ENDPOINTS } from "../constants";
-import type { Organisation } from "../models/models";
+import type {
+  Organisation,
+  OrganisationChangeNotice,
+  OrganisationQuery,
+  OrganisationSearchHit,
+  Page,
+} from "../models/models";
 
 const ORG = API_ENDPOINTS.ORGANISATIONS;
 
 export const OrganisationAPI = {
-  getAll: () => http.get<Organisation[]>(ORG),
+  list: (query: OrganisationQuery = {}) =>
+    http.get<Page<Organisation>>(
+      `${ORG}${qs.stringify(query, { addQueryPrefix: true, skipNulls: true })}`
+    ),
+  search: (q: string, limit = 20) =>
+    http.get<OrganisationSearchHit[]>(
+      `${ORG}/search${qs.stringify({ q, limit }, { addQueryPrefix: true })}`
+    ),
   getById: (id: number) => http.get<Organisation>(`${ORG}/${id}`),
   create: (data: Organisation) => http.post<Organisation>(ORG, data),
   update: (id: number, data: Organisation) =>
     http.put<Organisation>(`${ORG}/${id}`, data),
+  // JSON merge patch: only the given properties change
+  patch: (id: number, changes: Record<string, unknown>) =>
+    http.patch<Organisation>(`${ORG}/${id}`, changes),
   remove: (id: number) => http.delete<void>(`${ORG}/${id}`),
+  /**
+   * Pushes organisation changes made anywhere until the returned function is called. onReset
+   * means changes were missed and whatever is shown should be reloaded.
+   */
+  events: (onChange: (notice: OrganisationChangeNotice) => void, onReset: () => void) =>
+    subscribe(`${ORG}/events`, (event) => {
+      if (event.event === "organisation") onChange(JSON.parse(event.data));
+      else if (event.event === "reset") onReset();
+    }),
 };
@@ -1,12 +1,86 @@
 import { useNavigate } from "react-router-dom";
 import { OrganisationAPI } from "../../api/organisationApi";
+import { ApiError } from "../../utils/httpClient";
 import OrganisationForm from "../presentation/OrganisationForm";
-import type { Organisation } from "../../models/models";
+import type { Organisation, OrganisationHR } from "../../models/models";
 import { ROUTES, MESSAGES } from "../../constants";
 import { useState } from "react";
 import SuccessDialog from "../common/SuccessDialog";
 import ErrorDialog from "../common/ErrorDialog";
 
+const MERGE_FIELDS: { label: string; get: (o: Organisation) => string }[] = [
+  { label: "Name", get: (o) => o.name },
+  { label: "Address", get: (o) => o.address },
+  { label: "HR first name", get: (o) => o.hr?.first_name || "" },
+  { label: "HR last name", get: (o) => o.hr?.last_name || "" },
+  { label: "HR email", get: (o) => o.hr?.email || "" },
+  { label: "HR contact number", get: (o) => o.hr?.contact_number || "" },
+];
+
+// Saves hitting a 409 are merged onto the current state and retried this many times
+const MAX_MERGE_RETRIES = 3;
+
+function fromApi(org: any): Organisation {
+  const first = org?.hrContacts?.[0];
+  return {
+    id: org?.id,
+    name: org?.name || "",
+    address: org?.address || "",
+    version: org?.version,
+    hr: {
+      id: first?.id,
+      first_name: first?.firstName || "",
+      last_name: first?.lastName || "",
+      contact_number: first?.contactNumber || "",
+      email: first?.email || "",
+      version: first?.version,
+    },
+  };
+}
+
+function toPayload(data: Organisation, id?: number) {
+  return {
+    id,
+    name: data.name,
+    address: data.address,
+    version: data.version,
+    hrContacts: [
+      {
+        id: data.hr?.id,
+        firstName: data.hr?.first_name || "",
+        lastName: data.hr?.last_name || "",
+        email: data.hr?.email || "",
+        contactNumber: data.hr?.contact_number || "",
+        version: data.hr?.version,
+      },
+    ],
+  };
+}
+
+/**
+ * Three-way merge of this user's edit onto the state that was saved in the meantime. A field
+ * changed on only one side keeps that change; the fields changed differently on both sides
+ * are returned as conflicts.
+ */
+function merge(base: Organisation, mine: Organisation, theirs: Organisation) {
+  const conflicts: string[] = [];
+  const pick = (field: (typeof MERGE_FIELDS)[number]) => {
+    const [b, m, t] = [field.get(base), field.get(mine), field.get(theirs)];
+    if (m === b || m === t) return t;
+    if (t !== b) conflicts.push(field.label);
+    return m;
+  };
+  const [name, address, firstName, lastName, email, contactNumber] = MERGE_FIELDS.map(pick);
+  const hr: OrganisationHR = {
+    ...theirs.hr,
+    first_name: firstName,
+    last_name: lastName,
+    email,
+    contact_number: contactNumber,
+  };
+  return { merged: { ...theirs, name, address, hr }, conflicts };
+}
+
 interface Props {
   initialData?: Organisation;
   onCancel?: () => void;
@@ -23,28 +97,40 @@ export default function OrganisationFormContainer({ initialData, onCancel, onSuc
   const [errorOpen, setErrorOpen] = useState(false);
   const [errorText, setErrorText] = useState("We couldn't save your changes.");
 
+  const save = async (id: number, base: Organisation, mine: Organisation) => {
+    for (let attempt = 0; ; attempt++) {
+      try {
+        return await OrganisationAPI.update(id, toPayload(mine, id) as any);
+      } catch (err) {
+        if (!(err instanceof ApiError) || err.status !== 409 || attempt >= MAX_MERGE_RETRIES) {
+          throw err;
+        }
+        const theirs = fromApi((err.data as any)?.current);
+        const { merged, conflicts } = merge(base, mine, theirs);
+        if (conflicts.length) {
+          throw new Error(
+            `Someone else changed ${conflicts.join(", ")} while you were editing. Reload the organisation and reapply your changes.`
+          );
+        }
+        base = theirs;
+        mine = merged;
+      }
+    }
+  };
+
   const handleSubmit = async (data: Organisation) => {
     try {
-      const payload: any = {
-        id: initialData?.id,
-        name: data.name,
-        address: data.address,
-        hrContacts: [
-          {
-            id: (data as any).hr?.id,
-            firstName: (data as any).hr?.first_name || "",
-            lastName: (data as any).hr?.last_name || "",
-            email: (data as any).hr?.email || "",
-            contactNumber: (data as any).hr?.contact_number || "",
-          },
-        ],
-      };
-
       if (initialData?.id) {
-        await OrganisationAPI.update(initialData.id, payload);
+        // The form only edits values; ids and versions are those of the state it was opened with
+        const edited: Organisation = {
+          ...data,
+          version: initialData.version,
+          hr: { ...data.hr, id: initialData.hr?.id, version: initialData.hr?.version },
+        };
+        await save(initialData.id, initialData, edited);
         setSuccessText("Organisation updated successfully.");
       } else {
-        await OrganisationAPI.create(payload);
+        await OrganisationAPI.create(toPayload(data) as any);
         setSuccessText("Organisation created successfully.");
       }
       setSuccessOpen(true);
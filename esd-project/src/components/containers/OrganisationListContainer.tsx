@@ -4,17 +4,33 @@ import OrganisationTable from "../presentation/OrganisationTable";
 import { OrganisationAPI } from "../../api/organisationApi";
 import type { Organisation } from "../../models/models";
 import { ROUTES, MESSAGES } from "../../constants";
+import { useDebouncedValue } from "../../hooks/useDebouncedValue";
+import { useOrganisationEvents } from "../../hooks/useOrganisationEvents";
 
 export default function OrganisationListContainer() {
   const [list, setList] = useState<Organisation[]>([]);
+  const [totalElements, setTotalElements] = useState(0);
+  const [page, setPage] = useState(0);
+  const [rowsPerPage, setRowsPerPage] = useState(10);
+  const [search, setSearch] = useState("");
+  const [searchLocation, setSearchLocation] = useState("");
   const [loading, setLoading] = useState(true);
   const navigate = useNavigate();
+  const debouncedSearch = useDebouncedValue(search.trim());
+  const debouncedLocation = useDebouncedValue(searchLocation.trim());
 
-  const load = async () => {
-    setLoading(true);
+  const load = async (quiet = false) => {
+    if (!quiet) setLoading(true);
     try {
-      const res = await OrganisationAPI.getAll();
-      setList(res);
+      const res = await OrganisationAPI.list({
+        page,
+        size: rowsPerPage,
+        fields: "name,address",
+        name: debouncedSearch || undefined,
+        city: debouncedLocation || undefined,
+      });
+      setList(res.content);
+      setTotalElements(res.totalElements);
     } catch (err) {
       console.error(err);
       alert(MESSAGES.ERROR_GENERIC);
@@ -25,7 +41,16 @@ export default function OrganisationListContainer() {
 
   useEffect(() => {
     load();
-  }, []);
+  }, [page, rowsPerPage, debouncedSearch, debouncedLocation]);
+
+  // Another tab or officer changed something: refresh this page in the background
+  useOrganisationEvents(
+    (notice) => {
+      if (notice.op === "DELETED" && !list.some((org) => org.id === notice.id)) return;
+      load(true);
+    },
+    () => load(true)
+  );
 
   const handleEdit = (org: Organisation) => {
     navigate(`/organisations/edit/${org.id}`);
@@ -37,8 +62,10 @@ export default function OrganisationListContainer() {
 
     try {
       await OrganisationAPI.remove(org.id!);
+      // The pushed change refreshes the page
+      setList((rows) => rows.filter((row) => row.id !== org.id));
+      setTotalElements((total) => Math.max(total - 1, 0));
       alert(MESSAGES.DELETE_SUCCESS);
-      load();
     } catch (err) {
       console.error(err);
       alert(MESSAGES.ERROR_GENERIC);
@@ -54,6 +81,24 @@ export default function OrganisationListContainer() {
   return (
     <OrganisationTable
       organisations={list}
+      totalElements={totalElements}
+      page={page}
+      rowsPerPage={rowsPerPage}
+      search={search}
+      searchLocation={searchLocation}
+      onSearchChange={(value) => {
+        setSearch(value);
+        setPage(0);
+      }}
+      onSearchLocationChange={(value) => {
+        setSearchLocation(value);
+        setPage(0);
+      }}
+      onPageChange={setPage}
+      onRowsPerPageChange={(size) => {
+        setRowsPerPage(size);
+        setPage(0);
+      }}
       onEdit={handleEdit}
       onDelete={handleDelete}
       onCreate={handleCreate}
@@ -1,4 +1,3 @@
-import { useState } from "react";
 import {
   Table,
   TableBody,
@@ -26,7 +25,17 @@ import { LABELS } from "../../constants";
 import type { Organisation } from "../../models/models";
 
 interface Props {
+  // The current server-side page; filtering and slicing happen on the API
   organisations: Organisation[];
+  totalElements: number;
+  page: number;
+  rowsPerPage: number;
+  search: string;
+  searchLocation: string;
+  onSearchChange: (value: string) => void;
+  onSearchLocationChange: (value: string) => void;
+  onPageChange: (page: number) => void;
+  onRowsPerPageChange: (size: number) => void;
   onEdit: (org: Organisation) => void;
   onDelete: (org: Organisation) => void;
   onCreate: () => void;
@@ -34,30 +43,22 @@ interface Props {
 
 export default function OrganisationTable({
   organisations,
+  totalElements,
+  page,
+  rowsPerPage,
+  search,
+  searchLocation,
+  onSearchChange,
+  onSearchLocationChange,
+  onPageChange,
+  onRowsPerPageChange,
   onEdit,
   onDelete,
   onCreate,
 }: Props) {
-  const [search, setSearch] = useState("");
-  const [searchLocation, setSearchLocation] = useState("");
-  const [page, setPage] = useState(0);
-  const [rowsPerPage, setRowsPerPage] = useState(10);
   const theme = useTheme();
   const isMobile = useMediaQuery(theme.breakpoints.down("sm"));
 
-  const filtered = organisations.filter((o) => {
-    const byName = o.name.toLowerCase().includes(search.toLowerCase());
-    const byLocation = (o.address || "")
-      .toLowerCase()
-      .includes(searchLocation.toLowerCase());
-    return byName && byLocation;
-  });
-
-  const paginated = filtered.slice(
-    page * rowsPerPage,
-    page * rowsPerPage + rowsPerPage
-  );
-
   const isSearching =
     (search?.trim()?.length ?? 0) > 0 ||
     (searchLocation?.trim()?.length ?? 0) > 0;
@@ -82,10 +83,7 @@ export default function OrganisationTable({
             size="small"
             placeholder={LABELS.SEARCH_ORGANISATION}
             value={search}
-            onChange={(e) => {
-              setSearch(e.target.value);
-              setPage(0);
-            }}
+            onChange={(e) => onSearchChange(e.target.value)}
             InputProps={{
               startAdornment: (
                 <InputAdornment position="start">
@@ -96,12 +94,9 @@ export default function OrganisationTable({
           />
           <TextField
             size="small"
-            placeholder="Search by location"
+            placeholder="Search by city"
             value={searchLocation}
-            onChange={(e) => {
-              setSearchLocation(e.target.value);
-              setPage(0);
-            }}
+            onChange={(e) => onSearchLocationChange(e.target.value)}
             InputProps={{
               startAdornment: (
                 <InputAdornment position="start">
@@ -120,7 +115,7 @@ export default function OrganisationTable({
         </Toolbar>
       </Paper>
 
-      {filtered.length === 0 ? (
+      {totalElements === 0 ? (
         <Paper
           elevation={0}
           sx={{
@@ -150,7 +145,7 @@ export default function OrganisationTable({
         </Paper>
       ) : isMobile ? (
         <Stack spacing={2}>
-          {paginated.map((org, idx) => {
+          {organisations.map((org, idx) => {
             const hr = (org as any).hr || {};
             const hrName =
               `${hr.first_name || ""} ${hr.last_name || ""}`.trim() || "-";
@@ -215,7 +210,7 @@ export default function OrganisationTable({
               </TableRow>
             </TableHead>
             <TableBody>
-              {paginated.map((org, idx) => {
+              {organisations.map((org, idx) => {
                 const hr = (org as any).hr || {};
                 const hrName =
                   `${hr.first_name || ""} ${hr.last_name || ""}`.trim() || "-";
@@ -259,8 +254,8 @@ export default function OrganisationTable({
         </TableContainer>
       )}
 
-      {/* Simple client-side pagination controls */}
-      {filtered.length > 0 && (
+      {/* Pagination controls; the page itself is fetched from the server */}
+      {totalElements > 0 && (
         <Stack
           direction="row"
           justifyContent="space-between"
@@ -268,24 +263,24 @@ export default function OrganisationTable({
           sx={{ mt: 2 }}
         >
           <Typography variant="body2" color="text.secondary">
-            Showing {Math.min(filtered.length, page * rowsPerPage + 1)}-
-            {Math.min(filtered.length, (page + 1) * rowsPerPage)} of{" "}
-            {filtered.length}
+            Showing {Math.min(totalElements, page * rowsPerPage + 1)}-
+            {Math.min(totalElements, (page + 1) * rowsPerPage)} of{" "}
+            {totalElements}
           </Typography>
           <Stack direction="row" spacing={1}>
             <Button
               size="small"
               variant="outlined"
               disabled={page === 0}
-              onClick={() => setPage((p) => Math.max(0, p - 1))}
+              onClick={() => onPageChange(Math.max(0, page - 1))}
             >
               Prev
             </Button>
             <Button
               size="small"
               variant="outlined"
-              disabled={(page + 1) * rowsPerPage >= filtered.length}
-              onClick={() => setPage((p) => p + 1)}
+              disabled={(page + 1) * rowsPerPage >= totalElements}
+              onClick={() => onPageChange(page + 1)}
             >
               Next
             </Button>
@@ -294,10 +289,7 @@ export default function OrganisationTable({
               size="small"
               SelectProps={{ native: true }}
               value={rowsPerPage}
-              onChange={(e) => {
-                setRowsPerPage(parseInt(e.target.value, 10));
-                setPage(0);
-              }}
+              onChange={(e) => onRowsPerPageChange(parseInt(e.target.value, 10))}
             >
               <option value={5}>5</option>
               <option value={10}>10</option>
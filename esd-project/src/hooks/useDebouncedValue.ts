@@ -0,0 +1,12 @@
+import { useEffect, useState } from "react";
+
+export const useDebouncedValue = <T,>(value: T, delayMs = 300) => {
+  const [debounced, setDebounced] = useState(value);
+
+  useEffect(() => {
+    const timer = setTimeout(() => setDebounced(value), delayMs);
+    return () => clearTimeout(timer);
+  }, [value, delayMs]);
+
+  return debounced;
+};
@@ -0,0 +1,27 @@
+import { useEffect, useRef } from "react";
+import { OrganisationAPI } from "../api/organisationApi";
+import type { OrganisationChangeNotice } from "../models/models";
+
+/**
+ * Calls onChange for every organisation saved or deleted, by this tab or anyone else, while the
+ * component is mounted; onReset when changes were missed. One stream per mounted component.
+ */
+export const useOrganisationEvents = (
+  onChange: (notice: OrganisationChangeNotice) => void,
+  onReset: () => void
+) => {
+  const handlers = useRef({ onChange, onReset });
+
+  useEffect(() => {
+    handlers.current = { onChange, onReset };
+  });
+
+  useEffect(
+    () =>
+      OrganisationAPI.events(
+        (notice) => handlers.current.onChange(notice),
+        () => handlers.current.onReset()
+      ),
+    []
+  );
+};
@@ -4,6 +4,8 @@ export interface OrganisationHR {
   last_name: string;
   contact_number: string;
   email: string;
+  /** Optimistic lock version; sent back unchanged on update. */
+  version?: number;
 }
 
 export interface Organisation {
@@ -11,6 +13,43 @@ export interface Organisation {
   name: string;
   address: string;
   hr: OrganisationHR;
+  /** Optimistic lock version; an update with an older one is rejected with 409. */
+  version?: number;
+}
+
+export interface Page<T> {
+  content: T[];
+  page: number;
+  size: number;
+  totalElements: number;
+  totalPages: number;
+}
+
+export interface OrganisationSearchHit {
+  score: number;
+  organisation: Organisation;
+}
+
+/** Pushed on the organisation event stream when an organisation is saved or deleted. */
+export interface OrganisationChangeNotice {
+  id: number;
+  op: "SAVED" | "DELETED";
+  version: number | null;
+}
+
+export interface OrganisationQuery {
+  page?: number;
+  size?: number;
+  sort?: string;
+  name?: string;
+  namePrefix?: string;
+  city?: string;
+  state?: string;
+  country?: string;
+  industryType?: string;
+  isActive?: boolean;
+  /** Comma separated fields to return; the default is the summary row. */
+  fields?: string;
 }
 
 export interface User {
@@ -18,3 +57,7 @@ export interface User {
   username: string;
   email?: string;
 }
+
+export interface AppAuthResponse {
+  token: string;
+}
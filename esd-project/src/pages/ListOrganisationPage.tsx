@@ -1,4 +1,4 @@
-import { useEffect, useState } from "react";
+import { useEffect, useRef, useState } from "react";
 import { useNavigate } from "react-router-dom";
 import { Dialog, DialogTitle, DialogContent, IconButton, Stack, Typography, Button } from "@mui/material";
 import CloseIcon from "@mui/icons-material/Close";
@@ -13,45 +13,75 @@ import PageHeader from "../components/common/PageHeader";
 import EmptyState from "../components/common/EmptyState";
 import LoadingOverlay from "../components/common/LoadingOverlay";
 import { useToast } from "../components/common/ToastProvider";
+import { useDebouncedValue } from "../hooks/useDebouncedValue";
+import { useOrganisationEvents } from "../hooks/useOrganisationEvents";
+
+/** Changes pushed in a burst (an import, a bulk delete) are folded into one page reload. */
+const RELOAD_DELAY_MS = 1000;
+
+// Table row from an organisation with its HR contacts
+const toRow = (full: any): Organisation => {
+  const list = full?.hrContacts as any[] | undefined;
+  const first = list && list.length ? list[0] : undefined;
+  return {
+    id: full?.id,
+    name: full?.name || "",
+    address: full?.address || "",
+    version: full?.version,
+    hr: {
+      id: first?.id,
+      version: first?.version,
+      first_name: first?.firstName || first?.first_name || "",
+      last_name: first?.lastName || first?.last_name || "",
+      contact_number: first?.contactNumber || first?.contact_number || "",
+      email: first?.email || "",
+    },
+  } as Organisation;
+};
 
 export default function OrganisationListPage() {
   const [organisations, setOrganisations] = useState<Organisation[]>([]);
+  const [totalElements, setTotalElements] = useState(0);
+  const [page, setPage] = useState(0);
+  const [rowsPerPage, setRowsPerPage] = useState(10);
+  const [search, setSearch] = useState("");
+  const [searchLocation, setSearchLocation] = useState("");
+  const [reloadKey, setReloadKey] = useState(0);
   const [loading, setLoading] = useState<boolean>(true);
   const [error, setError] = useState<string | null>(null);
   const [editOpen, setEditOpen] = useState(false);
   const [selected, setSelected] = useState<Organisation | undefined>(undefined);
 
+  // Reloads caused by other people's changes refresh the page without the loading overlay
+  const quietReload = useRef(false);
+  const reloadTimer = useRef<ReturnType<typeof setTimeout> | undefined>(undefined);
   const navigate = useNavigate();
   const { toast } = useToast();
+  const debouncedSearch = useDebouncedValue(search.trim());
+  const debouncedLocation = useDebouncedValue(searchLocation.trim());
 
   useEffect(() => {
     let cancelled = false;
 
     (async () => {
+      const quiet = quietReload.current;
+      quietReload.current = false;
       try {
-        setLoading(true);
+        if (!quiet) setLoading(true);
         setError(null);
 
-        const data = await OrganisationAPI.getAll();
+        const data = await OrganisationAPI.list({
+          page,
+          size: rowsPerPage,
+          sort: "name,asc",
+          fields: "name,address,hrContacts",
+          name: debouncedSearch || undefined,
+          city: debouncedLocation || undefined,
+        });
 
         if (!cancelled) {
-          const normalised = (data || []).map((full: any) => {
-            const list = full?.hrContacts as any[] | undefined;
-            const first = list && list.length ? list[0] : undefined;
-            return {
-              id: full?.id,
-              name: full?.name || "",
-              address: full?.address || "",
-              hr: {
-                id: first?.id,
-                first_name: first?.firstName || first?.first_name || "",
-                last_name: first?.lastName || first?.last_name || "",
-                contact_number: first?.contactNumber || first?.contact_number || "",
-                email: first?.email || "",
-              },
-            } as Organisation;
-          });
-          setOrganisations(normalised);
+          setOrganisations((data?.content || []).map(toRow));
+          setTotalElements(data?.totalElements ?? 0);
         }
       } catch (err) {
         if (!cancelled) {
@@ -69,13 +99,50 @@ export default function OrganisationListPage() {
     return () => {
       cancelled = true;
     };
-  }, []);
+  }, [page, rowsPerPage, debouncedSearch, debouncedLocation, reloadKey]);
+
+  useEffect(() => () => clearTimeout(reloadTimer.current), []);
+
+  const reloadQuietly = () => {
+    clearTimeout(reloadTimer.current);
+    reloadTimer.current = setTimeout(() => {
+      quietReload.current = true;
+      setReloadKey((k) => k + 1);
+    }, RELOAD_DELAY_MS);
+  };
+
+  const removeRow = (id: number) => {
+    setOrganisations((rows) => rows.filter((org) => org.id !== id));
+    setTotalElements((total) => Math.max(total - 1, 0));
+  };
+
+  // Rows on this page are patched in place; anything else may move rows onto or off this page
+  useOrganisationEvents(
+    async (notice) => {
+      const shown = organisations.some((org) => org.id === notice.id);
+      if (notice.op === "DELETED") {
+        if (shown) removeRow(notice.id);
+        // Let the next page back-fill the gap
+        reloadQuietly();
+      } else if (shown) {
+        try {
+          const row = toRow(await OrganisationAPI.getById(notice.id));
+          setOrganisations((rows) => rows.map((org) => (org.id === row.id ? row : org)));
+        } catch {
+          reloadQuietly();
+        }
+      } else {
+        reloadQuietly();
+      }
+    },
+    reloadQuietly
+  );
 
   const handleDelete = async (id: number) => {
     try {
       await OrganisationAPI.remove(id);
-      // Optimistically update UI without refetch
-      setOrganisations((prev) => prev.filter((org) => org.id !== id));
+      // The pushed change back-fills the page
+      removeRow(id);
       toast({ variant: "success", message: "Organisation deleted" });
     } catch (err) {
       const message = err instanceof Error ? err.message : MESSAGES.ERROR_GENERIC;
@@ -86,24 +153,7 @@ export default function OrganisationListPage() {
   const handleEdit = async (org: Organisation) => {
     if (!org.id) return;
     try {
-      const full = await OrganisationAPI.getById(org.id);
-      const mapped: Organisation = {
-        id: full.id,
-        name: (full as any).name,
-        address: (full as any).address,
-        hr: (() => {
-          const list = (full as any).hrContacts as any[] | undefined;
-          const first = list && list.length ? list[0] : undefined;
-          return {
-            id: first?.id,
-            first_name: first?.firstName || first?.first_name || "",
-            last_name: first?.lastName || first?.last_name || "",
-            contact_number: first?.contactNumber || first?.contact_number || "",
-            email: first?.email || "",
-          };
-        })(),
-      } as Organisation;
-      setSelected(mapped);
+      setSelected(toRow(await OrganisationAPI.getById(org.id)));
       setEditOpen(true);
     } catch (e) {
       toast({ variant: "error", message: MESSAGES.ERROR_GENERIC });
@@ -129,11 +179,29 @@ export default function OrganisationListPage() {
         <>
           <OrganisationTable
             organisations={organisations}
+            totalElements={totalElements}
+            page={page}
+            rowsPerPage={rowsPerPage}
+            search={search}
+            searchLocation={searchLocation}
+            onSearchChange={(value) => {
+              setSearch(value);
+              setPage(0);
+            }}
+            onSearchLocationChange={(value) => {
+              setSearchLocation(value);
+              setPage(0);
+            }}
+            onPageChange={setPage}
+            onRowsPerPageChange={(size) => {
+              setRowsPerPage(size);
+              setPage(0);
+            }}
             onEdit={handleEdit}
             onDelete={(org) => org.id && handleDelete(org.id)}
             onCreate={handleCreate}
           />
-          {organisations.length === 0 && !loading && (
+          {totalElements === 0 && !loading && !search && !searchLocation && (
             <EmptyState
               title="No organisations yet"
               description="Create your first organisation to get started."
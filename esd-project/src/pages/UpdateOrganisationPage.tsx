@@ -18,8 +18,12 @@ export default function UpdateOrganisationPage() {
       try {
         setLoading(true);
         setError(null);
-        const data = await OrganisationAPI.getAll();
-        setOrgs(data || []);
+        const data = await OrganisationAPI.list({
+          size: 100,
+          sort: "name,asc",
+          fields: "name",
+        });
+        setOrgs(data?.content || []);
       } catch (e) {
         setError(e instanceof Error ? e.message : MESSAGES.ERROR_GENERIC);
       } finally {
@@ -38,6 +42,7 @@ export default function UpdateOrganisationPage() {
             id: full.id,
             name: (full as any).name,
             address: (full as any).address,
+            version: (full as any).version,
             hr: (() => {
               const list = (full as any).hrContacts as any[] | undefined;
               const first = list && list.length ? list[0] : undefined;
@@ -47,6 +52,7 @@ export default function UpdateOrganisationPage() {
                 last_name: first?.lastName || first?.last_name || "",
                 contact_number: first?.contactNumber || first?.contact_number || "",
                 email: first?.email || "",
+                version: first?.version,
               };
             })(),
           } as Organisation;
@@ -59,6 +65,7 @@ export default function UpdateOrganisationPage() {
               id: found.id,
               name: (found as any).name,
               address: (found as any).address,
+            version: (found as any).version,
               hr: (() => {
                 const list = (found as any).hrContacts as any[] | undefined;
                 const first = list && list.length ? list[0] : undefined;
@@ -68,6 +75,7 @@ export default function UpdateOrganisationPage() {
                   last_name: first?.lastName || first?.last_name || "",
                   contact_number: first?.contactNumber || first?.contact_number || "",
                   email: first?.email || "",
+                  version: first?.version,
                 };
               })(),
             } as Organisation;
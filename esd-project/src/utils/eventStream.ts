@@ -0,0 +1,73 @@
+import http from "./httpClient";
+
+export interface ServerEvent {
+  id?: string;
+  event: string;
+  data: string;
+}
+
+const RETRY_MS = 3000;
+
+/**
+ * Reads a server-sent event stream with fetch rather than EventSource, so the bearer token is
+ * sent like on every other call. Reconnects with Last-Event-ID whenever the stream ends or fails,
+ * so the server can replay what was missed. Returns a function that closes the stream.
+ */
+export function subscribe(endpoint: string, onEvent: (event: ServerEvent) => void): () => void {
+  const controller = new AbortController();
+  let lastEventId: string | undefined;
+
+  const readOnce = async () => {
+    const body = await http.stream(endpoint, lastEventId, controller.signal);
+    const reader = body.getReader();
+    const decoder = new TextDecoder();
+    let buffer = "";
+    for (;;) {
+      const { value, done } = await reader.read();
+      if (done) return;
+      buffer += decoder.decode(value, { stream: true }).replace(/\r\n?/g, "\n");
+      let end = buffer.indexOf("\n\n");
+      while (end >= 0) {
+        const event = parse(buffer.slice(0, end));
+        buffer = buffer.slice(end + 2);
+        if (event) {
+          if (event.id) lastEventId = event.id;
+          onEvent(event);
+        }
+        end = buffer.indexOf("\n\n");
+      }
+    }
+  };
+
+  (async () => {
+    while (!controller.signal.aborted) {
+      try {
+        await readOnce();
+      } catch {
+        // Dropped or refused; try again below
+      }
+      if (controller.signal.aborted) return;
+      await new Promise((resolve) => setTimeout(resolve, RETRY_MS));
+    }
+  })();
+
+  return () => controller.abort();
+}
+
+/** One event block; comment-only blocks (heartbeats) give null. */
+function parse(block: string): ServerEvent | null {
+  let id: string | undefined;
+  let event = "message";
+  const data: string[] = [];
+  for (const line of block.split("\n")) {
+    if (!line || line.startsWith(":")) continue;
+    const colon = line.indexOf(":");
+    const field = colon < 0 ? line : line.slice(0, colon);
+    const value = colon < 0 ? "" : line.slice(colon + 1).replace(/^ /, "");
+    if (field === "id") id = value;
+    else if (field === "event") event = value;
+    else if (field === "data") data.push(value);
+  }
+  if (!data.length && event === "message") return null;
+  return { id, event, data: data.join("\n") };
+}
@@ -1,7 +1,21 @@
 import { API_BASE_URL } from "../constants";
 
+/** A non-2xx response; keeps the status and parsed body so callers can react to e.g. a 409. */
+export class ApiError extends Error {
+  readonly status: number;
+  readonly data: unknown;
+
+  constructor(message: string, status: number, data: unknown) {
+    super(message);
+    this.name = "ApiError";
+    this.status = status;
+    this.data = data;
+  }
+}
+
 class HttpClient {
   private static instance: HttpClient;
+  private token: string | null = null;
 
   private constructor() {}
 
@@ -12,6 +26,11 @@ class HttpClient {
     return HttpClient.instance;
   }
 
+  /** Google ID token from /auth/exchange; sent as a bearer token instead of the session cookie. */
+  setToken(token: string | null) {
+    this.token = token;
+  }
+
   private async request<T>(
     endpoint: string,
     method: "GET" | "POST" | "PUT" | "PATCH" | "DELETE",
@@ -20,6 +39,9 @@ class HttpClient {
     const headers: Record<string, string> = {
       "Content-Type": "application/json",
     };
+    if (this.token) {
+      headers.Authorization = `Bearer ${this.token}`;
+    }
 
     const response = await fetch(`${API_BASE_URL}${endpoint}`, {
       method,
@@ -42,12 +64,33 @@ class HttpClient {
     if (!response.ok) {
       const message =
         (data as any)?.message || response.statusText || "API Error";
-      throw new Error(message);
+      throw new ApiError(message, response.status, data);
     }
 
     return data as T;
   }
 
+  /** Opens a streaming GET (server-sent events); the caller reads and cancels the body. */
+  async stream(endpoint: string, lastEventId: string | undefined, signal: AbortSignal) {
+    const headers: Record<string, string> = { Accept: "text/event-stream" };
+    if (this.token) {
+      headers.Authorization = `Bearer ${this.token}`;
+    }
+    if (lastEventId) {
+      headers["Last-Event-ID"] = lastEventId;
+    }
+
+    const response = await fetch(`${API_BASE_URL}${endpoint}`, {
+      headers,
+      credentials: "include",
+      signal,
+    });
+    if (!response.ok || !response.body) {
+      throw new ApiError(response.statusText || "API Error", response.status, null);
+    }
+    return response.body;
+  }
+
   get<T>(endpoint: string) {
     return this.request<T>(endpoint, "GET");
   }